@@ -0,0 +1,16 @@
+-- 게시글 목록 keyset 페이지용 인덱스
+-- 정렬 키(created_at desc, id desc)와 동일한 순서로 구성한다.
+
+-- 관리자 목록 (전체)
+CREATE INDEX IF NOT EXISTS idx_posts_created_at_id
+    ON posts (created_at DESC, id DESC);
+
+-- 일반 사용자 목록 (삭제되지 않은 게시글)
+CREATE INDEX IF NOT EXISTS idx_posts_visible_created_at_id
+    ON posts (created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- hasFiles EXISTS 서브쿼리용
+CREATE INDEX IF NOT EXISTS idx_post_files_post_id_alive
+    ON post_files (post_id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,6 @@
+-- posts / post_files id 시퀀스를 50 단위로 변경 (Hibernate pooled 시퀀스, allocationSize = 50)
+-- 엔티티의 @SequenceGenerator(allocationSize)와 반드시 같은 값이어야 한다.
+-- 적용 후 다음 값은 (현재 값 + 50)이며, 애플리케이션은 (다음 값 - 49) ~ (다음 값) 구간을 사용한다.
+
+ALTER SEQUENCE posts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_files_id_seq INCREMENT BY 50;
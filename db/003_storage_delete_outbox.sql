@@ -0,0 +1,22 @@
+-- 저장소(S3) 삭제 대기 테이블 (transactional outbox)
+-- 파일 삭제 트랜잭션에서 함께 저장하고, StorageDeleteDispatcher가 DeleteObjects로 일괄 삭제한다.
+
+CREATE SEQUENCE IF NOT EXISTS storage_delete_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS storage_delete_outbox (
+    id              BIGINT       PRIMARY KEY DEFAULT nextval('storage_delete_outbox_id_seq'),
+    file_id         BIGINT,
+    post_id         BIGINT,
+    stored_key      VARCHAR(512) NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ  NOT NULL,
+    locked_until    TIMESTAMPTZ,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMPTZ  NOT NULL DEFAULT now()
+);
+
+ALTER SEQUENCE storage_delete_outbox_id_seq OWNED BY storage_delete_outbox.id;
+
+-- 처리 대상 조회 (next_attempt_at 순)
+CREATE INDEX IF NOT EXISTS idx_storage_delete_outbox_due
+    ON storage_delete_outbox (next_attempt_at, id);
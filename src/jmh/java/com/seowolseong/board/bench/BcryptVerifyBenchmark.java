@@ -0,0 +1,37 @@
+package com.seowolseong.board.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 검증 (강도별 1회 시간)
+ *
+ * - 운영 강도는 기동 로그 "bcrypt strength=" 값으로 확인해 -p strength= 로 지정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BcryptVerifyBenchmark {
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("post-password-1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("post-password-1234", hash);
+    }
+}
@@ -0,0 +1,34 @@
+package com.seowolseong.board.bench;
+
+import com.seowolseong.board.repository.PostListRow;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 데이터
+ */
+final class BenchData {
+
+    private BenchData() {}
+
+    /**
+     * 목록 행 n건 (최신순)
+     */
+    static List<PostListRow> rows(int n) {
+        OffsetDateTime base = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<PostListRow> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(new PostListRow(
+                    (long) (n - i),
+                    "게시글 제목 " + i + " - 서월성 게시판 성능 측정용",
+                    base.minusMinutes(i),
+                    null,
+                    i % 3 == 0
+            ));
+        }
+        return rows;
+    }
+}
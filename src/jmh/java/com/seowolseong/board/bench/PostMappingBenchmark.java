@@ -0,0 +1,35 @@
+package com.seowolseong.board.bench;
+
+import com.seowolseong.board.dto.PostDto;
+import com.seowolseong.board.repository.PostListRow;
+import com.seowolseong.board.service.PostService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 행 → PostDto 변환 (PostService.toSummaryDto, 페이지 50건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostMappingBenchmark {
+
+    private List<PostListRow> rows;
+
+    @Setup
+    public void setup() {
+        rows = BenchData.rows(50);
+    }
+
+    @Benchmark
+    public List<PostDto> mapPage() {
+        List<PostDto> out = new ArrayList<>(rows.size());
+        for (PostListRow r : rows) {
+            out.add(PostService.toSummaryDto(r));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,35 @@
+package com.seowolseong.board.bench;
+
+import com.seowolseong.board.dto.PostDto;
+import com.seowolseong.board.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 페이지(PostDto 50건) JSON 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PostPageJsonBenchmark {
+
+    private ObjectMapper mapper;
+    private PostDto.PostPage page;
+
+    @Setup
+    public void setup() {
+        mapper = JsonMapper.builder().build();
+        page = new PostDto.PostPage(
+                BenchData.rows(50).stream().map(PostService::toSummaryDto).toList(),
+                "MTczNTY4OTYwMDAwMDAwMDox"
+        );
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,40 @@
+package com.seowolseong.board.bench;
+
+import com.seowolseong.board.config.RequestIdFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestIdFilter 요청당 비용 (id 생성 + MDC + 로그 호출)
+ *
+ * - baseline: 필터 없이 같은 요청/응답 객체 생성 + 체인 호출
+ * - 로그 출력 비용은 제외한다. (src/jmh/resources/logback-test.xml, NOP appender)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestIdFilterBenchmark {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+    private final FilterChain chain = (req, res) -> { };
+
+    @Benchmark
+    public MockHttpServletResponse baseline() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/posts");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        chain.doFilter(req, res);
+        return res;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse withFilter() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/posts");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, chain);
+        return res;
+    }
+}
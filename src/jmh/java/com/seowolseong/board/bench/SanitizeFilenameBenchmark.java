@@ -0,0 +1,28 @@
+package com.seowolseong.board.bench;
+
+import com.seowolseong.board.service.FileService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileService.sanitizeFilename (업로드 / presign 요청마다 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SanitizeFilenameBenchmark {
+
+    @Param({
+            "report.pdf",
+            "2024 회의록 (최종) 수정본.pdf",
+            "../../etc/passwd",
+            "very-long-name-aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.png"
+    })
+    public String name;
+
+    @Benchmark
+    public String sanitize() {
+        return FileService.sanitizeFilename(name);
+    }
+}
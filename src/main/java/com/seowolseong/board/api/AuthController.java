@@ -16,15 +16,18 @@ import com.seowolseong.board.dto.AuthDto.LoginResponse;
 import com.seowolseong.board.dto.AuthDto.MeResponse;
 import com.seowolseong.board.dto.PostDto.AuthUser;
 import com.seowolseong.board.service.AuthService;
+import com.seowolseong.board.service.PasswordHasher;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
     private final AuthService authService;
+    private final PasswordHasher passwordHasher;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, PasswordHasher passwordHasher) {
         this.authService = authService;
+        this.passwordHasher = passwordHasher;
     }
 
     // 로그인 (세션 생성)
@@ -57,4 +60,15 @@ public class AuthController {
     }
 
 
+    // 비밀번호 해시 실행기 통계 (관리자)
+    @GetMapping("/password-hasher/stats")
+    public ResponseEntity<PasswordHasher.Stats> passwordHasherStats(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null || !"ADMIN".equals(session.getAttribute(SessionKeys.ROLE))) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(passwordHasher.stats());
+    }
+
+
 }
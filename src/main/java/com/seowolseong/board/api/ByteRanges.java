@@ -0,0 +1,102 @@
+package com.seowolseong.board.api;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다운로드 Range 요청 해석 (RFC 9110)
+ *
+ * - resolve() 결과
+ *   - null      : 전체 응답 (Range 없음 / If-Range 불일치 / 무시할 Range)
+ *   - 빈 리스트 : 범위 불만족 (416)
+ *   - 그 외     : 206 응답 범위
+ */
+final class ByteRanges {
+
+    // 한 요청에서 허용하는 최대 범위 수 (초과 시 Range 무시)
+    static final int MAX_RANGES = 16;
+
+    private ByteRanges() {}
+
+    /**
+     * 바이트 범위 (end 포함)
+     */
+    record Range(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long size) {
+            return "bytes " + start + "-" + end + "/" + size;
+        }
+    }
+
+    static List<Range> resolve(HttpHeaders headers, String etag, long lastModified, long size) {
+        String rangeHeader = headers.getFirst(HttpHeaders.RANGE);
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return null;
+        }
+        if (!ifRangeMatches(headers, etag, lastModified)) {
+            return null;
+        }
+
+        List<HttpRange> requested;
+        try {
+            requested = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 형식 오류 / bytes 외 단위는 무시하고 전체 응답
+            return null;
+        }
+        if (requested.isEmpty() || requested.size() > MAX_RANGES) {
+            return null;
+        }
+
+        List<Range> ranges = new ArrayList<>();
+        long total = 0;
+        for (HttpRange r : requested) {
+            try {
+                long start = r.getRangeStart(size);
+                long end = r.getRangeEnd(size);
+                if (start > end) {
+                    continue;
+                }
+                ranges.add(new Range(start, end));
+                total += end - start + 1;
+            } catch (IllegalArgumentException e) {
+                // 만족할 수 없는 범위는 제외
+            }
+        }
+
+        // 요청 범위 합이 파일보다 크면 (중복 범위 남용) 전체 응답
+        if (total > size) {
+            return null;
+        }
+        return ranges;
+    }
+
+    /**
+     * If-Range 검사 (강한 ETag 또는 Last-Modified 일치 시에만 Range 적용)
+     */
+    private static boolean ifRangeMatches(HttpHeaders headers, String etag, long lastModified) {
+        String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long date = headers.getFirstDate(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && date >= 0 && (lastModified / 1000) == (date / 1000);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -1,19 +1,44 @@
 package com.seowolseong.board.api;
 
+import com.seowolseong.board.common.SessionKeys;
+import com.seowolseong.board.dto.FileDto.PresignUploadRequest;
+import com.seowolseong.board.metrics.FileTransferMetrics;
 import com.seowolseong.board.service.FileService;
+import com.seowolseong.board.service.LocalFileCache;
+import com.seowolseong.board.service.model.FileDownloadMeta;
 import com.seowolseong.board.service.model.FileDownloadResource;
+import com.seowolseong.board.service.model.PresignedUpload;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 파일 업로드 / 다운로드 / 삭제 API
@@ -22,53 +47,325 @@ import java.util.Map;
 @RequestMapping("/api/files")
 public class FileController {
 
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     private final FileService fileService;
+    private final LocalFileCache localFileCache;
+    private final FileTransferMetrics transferMetrics;
+
+    // 다운로드 캐시 유지 기간
+    @Value("${app.files.cache-max-age:365d}")
+    private Duration cacheMaxAge;
 
-    public FileController(FileService fileService) {
+    // sendfile 전송 시 캐시 파일 고정 시간 (Tomcat이 파일을 열 때까지)
+    @Value("${app.files.local-cache.sendfile-hold:30s}")
+    private Duration sendfileHold;
+
+    // 다운로드 방식 (proxy | redirect)
+    @Value("${app.files.download-mode:proxy}")
+    private String downloadMode;
+
+    public FileController(FileService fileService, LocalFileCache localFileCache,
+                          FileTransferMetrics transferMetrics) {
         this.fileService = fileService;
+        this.localFileCache = localFileCache;
+        this.transferMetrics = transferMetrics;
     }
 
     /**
      * 파일 다운로드
-     * GET /api/files/{fileId}/download
+     * GET /api/files/{fileId}/download?mode=proxy|redirect
+     *
+     * - S3 객체는 변경되지 않으므로 immutable 캐시 헤더를 사용한다.
+     * - If-None-Match / If-Modified-Since 일치 시 S3 스트림을 열지 않고 304
+     * - redirect: presigned GET URL로 302 (S3가 직접 전송)
+     * - proxy: 서버가 S3 스트림을 그대로 전달 (Range 요청 시 206 / 416, If-Range 지원)
+     * - 로컬 디스크 캐시 적중 시 S3를 거치지 않고 zero-copy 전송
+     * - S3 응답 대기는 요청 스레드를 점유하지 않는다. (S3AsyncClient 완료 시 응답)
      */
     @GetMapping("/{fileId}/download")
-    public ResponseEntity<StreamingResponseBody> download(@PathVariable Long fileId) {
-        FileDownloadResource r = fileService.loadForDownload(fileId);
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> download(
+            @PathVariable Long fileId,
+            @RequestParam(required = false) String mode,
+            @RequestHeader HttpHeaders headers,
+            WebRequest webRequest,
+            HttpServletRequest request
+    ) {
+        FileDownloadMeta meta = fileService.findDownloadable(fileId);
 
-        String contentType = (r.contentType() == null || r.contentType().isBlank())
+        long lastModified = (meta.lastModified() == null)
+                ? -1
+                : meta.lastModified().toInstant().toEpochMilli();
+
+        if (webRequest.checkNotModified(meta.etag(), lastModified)) {
+            ResponseEntity.BodyBuilder notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.maxAge(cacheMaxAge).cachePublic().immutable())
+                    .eTag(meta.etag());
+            if (lastModified >= 0) {
+                notModified.lastModified(lastModified);
+            }
+            return CompletableFuture.completedFuture(notModified.build());
+        }
+
+        String contentType = (meta.contentType() == null || meta.contentType().isBlank())
                 ? MediaType.APPLICATION_OCTET_STREAM_VALUE
-                : r.contentType();
+                : meta.contentType();
 
-        String originalName = (r.originalName() == null || r.originalName().isBlank())
+        String originalName = (meta.originalName() == null || meta.originalName().isBlank())
                 ? "download"
-                : r.originalName();
+                : meta.originalName();
 
         String encoded = URLEncoder.encode(originalName, StandardCharsets.UTF_8)
                 .replace("+", "%20");
 
-        StreamingResponseBody body = out -> {
-            try (InputStream in = r.inputStream()) {
-                in.transferTo(out);
+        String contentDisposition = "attachment; filename=\"" + safeAsciiFallback(originalName) +
+                "\"; filename*=UTF-8''" + encoded;
+
+        // presigned URL 리다이렉트
+        if (isRedirectMode(mode)) {
+            URI location = fileService.presignDownload(meta, contentDisposition, contentType);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FOUND)
+                    .location(location)
+                    .cacheControl(CacheControl.noStore())
+                    .build());
+        }
+
+        // Range 요청 (크기를 알 때만)
+        Long size = meta.sizeBytes();
+        List<ByteRanges.Range> ranges = (size == null)
+                ? null
+                : ByteRanges.resolve(headers, meta.etag(), lastModified, size);
+
+        if (ranges != null && ranges.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build());
+        }
+
+        // 로컬 디스크 캐시 적중 (전송이 끝날 때까지 Lease로 파일 고정)
+        Optional<LocalFileCache.Lease> cached = (size == null) ? Optional.empty() : localFileCache.lookup(meta.id());
+        if (cached.isPresent()) {
+            LocalFileCache.Lease lease = cached.get();
+            try {
+                return CompletableFuture.completedFuture(
+                        serveCached(lease, ranges, size, contentType, meta, lastModified, contentDisposition, request));
+            } catch (RuntimeException e) {
+                lease.close();
+                throw e;
             }
+        }
+
+        RangeWriter s3 = (start, end, out) -> {
+            try (InputStream in = fileService.openRange(meta, start, end)) {
+                transferMetrics.downloaded(in.transferTo(out), false);
+            }
+        };
+
+        if (ranges != null && ranges.size() == 1) {
+            ByteRanges.Range range = ranges.get(0);
+            return fileService.openRangeAsync(meta, range.start(), range.end())
+                    .thenApply(in -> {
+                        StreamingResponseBody body = out -> {
+                            try (in) {
+                                transferMetrics.downloaded(in.transferTo(out), false);
+                            }
+                        };
+                        return fileResponse(HttpStatus.PARTIAL_CONTENT, meta, lastModified, contentDisposition)
+                                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                                .header(HttpHeaders.CONTENT_RANGE, range.contentRange(size))
+                                .contentLength(range.length())
+                                .body(body);
+                    });
+        }
+
+        if (ranges != null) {
+            return CompletableFuture.completedFuture(multipartRanges(ranges, size, contentType, s3, () -> {},
+                    fileResponse(HttpStatus.PARTIAL_CONTENT, meta, lastModified, contentDisposition)));
+        }
+
+        // 전체 응답 (S3 스트림을 응답과 로컬 캐시에 함께 기록)
+        return fileService.openAsync(meta).thenApply(r -> {
+            LocalFileCache.Writer cacheWriter = localFileCache.openWriter(meta.id(), size);
+
+            StreamingResponseBody body = out -> {
+                try (InputStream in = r.inputStream(); LocalFileCache.Writer w = cacheWriter) {
+                    if (w == null) {
+                        transferMetrics.downloaded(in.transferTo(out), false);
+                        return;
+                    }
+                    byte[] buf = new byte[COPY_BUFFER_SIZE];
+                    long total = 0;
+                    int n;
+                    while ((n = in.read(buf)) != -1) {
+                        out.write(buf, 0, n);
+                        w.write(buf, 0, n);
+                        total += n;
+                    }
+                    transferMetrics.downloaded(total, false);
+                    w.commit();
+                }
+            };
+
+            return fileResponse(HttpStatus.OK, meta, lastModified, contentDisposition)
+                    .header(HttpHeaders.CONTENT_TYPE, contentType)
+                    .contentLength(r.sizeBytes() == null ? -1 : r.sizeBytes())
+                    .body(body);
+        });
+    }
+
+    /**
+     * 로컬 캐시 적중 응답 (전체 / 단일 범위 / 다중 범위)
+     */
+    private ResponseEntity<StreamingResponseBody> serveCached(
+            LocalFileCache.Lease lease, List<ByteRanges.Range> ranges, long size, String contentType,
+            FileDownloadMeta meta, long lastModified, String contentDisposition, HttpServletRequest request) {
+
+        if (ranges == null) {
+            return serveFile(lease, 0, size - 1, request,
+                    fileResponse(HttpStatus.OK, meta, lastModified, contentDisposition)
+                            .header(HttpHeaders.CONTENT_TYPE, contentType));
+        }
+        if (ranges.size() == 1) {
+            ByteRanges.Range range = ranges.get(0);
+            return serveFile(lease, range.start(), range.end(), request,
+                    fileResponse(HttpStatus.PARTIAL_CONTENT, meta, lastModified, contentDisposition)
+                            .header(HttpHeaders.CONTENT_TYPE, contentType)
+                            .header(HttpHeaders.CONTENT_RANGE, range.contentRange(size)));
+        }
+
+        RangeWriter disk = (start, end, out) -> {
+            transferFromFile(lease.path(), start, end, out);
+            transferMetrics.downloaded(end - start + 1, true);
         };
+        return multipartRanges(ranges, size, contentType, disk, lease::close,
+                fileResponse(HttpStatus.PARTIAL_CONTENT, meta, lastModified, contentDisposition));
+    }
+
+    /**
+     * multipart/byteranges 응답 (범위별로 순서대로 기록, 끝나면 onDone)
+     */
+    private static ResponseEntity<StreamingResponseBody> multipartRanges(
+            List<ByteRanges.Range> ranges, long size, String contentType,
+            RangeWriter writer, Runnable onDone, ResponseEntity.BodyBuilder builder) {
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, contentType)
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + safeAsciiFallback(originalName) +
-                                "\"; filename*=UTF-8''" + encoded)
-                .contentLength(r.sizeBytes() == null ? -1 : r.sizeBytes())
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        StreamingResponseBody body = out -> {
+            try {
+                for (ByteRanges.Range range : ranges) {
+                    out.write(("\r\n--" + boundary + "\r\n"
+                            + "Content-Type: " + contentType + "\r\n"
+                            + "Content-Range: " + range.contentRange(size) + "\r\n\r\n")
+                            .getBytes(StandardCharsets.US_ASCII));
+                    writer.write(range.start(), range.end(), out);
+                }
+                out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+            } finally {
+                onDone.run();
+            }
+        };
+        return builder
+                .header(HttpHeaders.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary)
                 .body(body);
     }
 
     /**
-     * 파일 삭제 (게시글 비밀번호 검증)
+     * 로컬 캐시 파일 전송
+     *
+     * - Tomcat sendfile 지원 시 커널 zero-copy 전송 (응답 본문 없이 속성만 지정)
+     *   전송량은 Tomcat에 넘기는 시점에 기록한다. (완료를 알려주지 않음)
+     *   Tomcat은 서블릿 처리 이후 파일을 열어 전송하므로 sendfile-hold 동안 파일을 고정한다.
+     * - 미지원 시 FileChannel.transferTo로 전송하고 완료 후 기록 / Lease 반환
+     */
+    private ResponseEntity<StreamingResponseBody> serveFile(
+            LocalFileCache.Lease lease, long start, long end,
+            HttpServletRequest request, ResponseEntity.BodyBuilder builder) {
+
+        long length = end - start + 1;
+        builder.contentLength(length);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, lease.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            transferMetrics.downloaded(length, true);
+            lease.closeAfter(sendfileHold);
+            return builder.build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try (lease) {
+                transferFromFile(lease.path(), start, end, out);
+            }
+            transferMetrics.downloaded(length, true);
+        };
+        return builder.body(body);
+    }
+
+    /**
+     * 파일 구간 전송 (FileChannel.transferTo)
+     */
+    private static void transferFromFile(Path path, long start, long end, OutputStream out) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long n = ch.transferTo(position, remaining, target);
+                if (n <= 0) {
+                    throw new EOFException("cached file truncated: " + path);
+                }
+                position += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    /**
+     * 바이트 구간 기록기 (S3 / 로컬 캐시)
+     */
+    @FunctionalInterface
+    private interface RangeWriter {
+        void write(long start, long end, OutputStream out) throws IOException;
+    }
+
+    /**
+     * 파일 응답 공통 헤더 (캐시 / ETag / Range 지원 / Content-Disposition)
+     */
+    private ResponseEntity.BodyBuilder fileResponse(
+            HttpStatus status, FileDownloadMeta meta, long lastModified, String contentDisposition) {
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status)
+                .cacheControl(CacheControl.maxAge(cacheMaxAge).cachePublic().immutable())
+                .eTag(meta.etag())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    /**
+     * 다운로드 방식 결정 (요청 파라미터 우선, 없으면 설정값)
+     */
+    private boolean isRedirectMode(String mode) {
+        String m = (mode == null || mode.isBlank()) ? downloadMode : mode;
+        return "redirect".equalsIgnoreCase(m);
+    }
+
+    /**
+     * 파일 삭제 (게시글 비밀번호 또는 편집 토큰 검증)
      * POST /api/files/{fileId}/delete
      */
     @PostMapping("/{fileId}/delete")
     public ResponseEntity<?> delete(@PathVariable Long fileId, @RequestBody FileDeleteRequest req) {
-        fileService.deleteFile(fileId, req.getPostPassword());
+        fileService.deleteFile(fileId, req.getPostPassword(), req.getEditToken());
         return ResponseEntity.ok(Map.of("ok", true));
     }
 
@@ -85,6 +382,47 @@ public class FileController {
         return ResponseEntity.ok(Map.of("ok", true, "fileIds", fileIds));
     }
 
+    /**
+     * S3 직접 업로드 URL 발급
+     * POST /api/files/presign
+     */
+    @PostMapping(value = "/presign", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> presignUpload(@RequestBody PresignUploadRequest req) {
+        PresignedUpload p = fileService.presignUpload(
+                req.postId(), req.fileName(), req.contentType(), req.sizeBytes());
+        return ResponseEntity.ok(Map.of(
+                "ok", true,
+                "fileId", p.fileId(),
+                "uploadUrl", p.uploadUrl(),
+                "method", p.method(),
+                "headers", p.headers(),
+                "expiresAt", p.expiresAt()
+        ));
+    }
+
+    /**
+     * S3 직접 업로드 완료 처리
+     * POST /api/files/{fileId}/complete
+     */
+    @PostMapping("/{fileId}/complete")
+    public ResponseEntity<?> completeUpload(@PathVariable Long fileId) {
+        fileService.completeUpload(fileId);
+        return ResponseEntity.ok(Map.of("ok", true, "fileId", fileId));
+    }
+
+    /**
+     * 로컬 파일 캐시 통계 (관리자)
+     * GET /api/files/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<LocalFileCache.Stats> cacheStats(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null || !"ADMIN".equals(session.getAttribute(SessionKeys.ROLE))) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(localFileCache.stats());
+    }
+
     /**
      * Content-Disposition filename ASCII fallback
      */
@@ -98,6 +436,7 @@ public class FileController {
      */
     public static class FileDeleteRequest {
         private String postPassword;
+        private String editToken;
 
         public String getPostPassword() {
             return postPassword;
@@ -106,5 +445,13 @@ public class FileController {
         public void setPostPassword(String postPassword) {
             this.postPassword = postPassword;
         }
+
+        public String getEditToken() {
+            return editToken;
+        }
+
+        public void setEditToken(String editToken) {
+            this.editToken = editToken;
+        }
     }
 }
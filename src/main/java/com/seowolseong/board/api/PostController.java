@@ -1,18 +1,24 @@
 package com.seowolseong.board.api;
 
+import com.seowolseong.board.cache.FrontPageCache;
+import com.seowolseong.board.cache.PostDetailCache;
 import com.seowolseong.board.common.SessionKeys;
 import com.seowolseong.board.dto.PostDto;
+import com.seowolseong.board.dto.PostDto.PostBulkDeleteRequest;
 import com.seowolseong.board.dto.PostDto.PostCreateRequest;
 import com.seowolseong.board.dto.PostDto.PostDeleteToggleRequest;
 import com.seowolseong.board.dto.PostDto.PostPasswordRequest;
 import com.seowolseong.board.dto.PostDto.PostUpdateRequest;
 import com.seowolseong.board.service.PostService;
+import com.seowolseong.board.service.model.EditToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -22,10 +28,14 @@ import java.util.Map;
 @RequestMapping("/api/posts")
 public class PostController {
 
+    private static final MediaType JSON_UTF8 = new MediaType("application", "json", StandardCharsets.UTF_8);
+
     private final PostService postService;
+    private final FrontPageCache frontPageCache;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, FrontPageCache frontPageCache) {
         this.postService = postService;
+        this.frontPageCache = frontPageCache;
     }
 
     private boolean isAdmin(HttpServletRequest request) {
@@ -37,24 +47,65 @@ public class PostController {
     }
 
     /**
-     * 게시글 목록 조회
-     * GET /api/posts
+     * 게시글 목록 조회 (keyset 페이지)
+     * GET /api/posts?cursor=&size=
+     *
+     * - 일반 사용자 첫 페이지(기본 크기)는 Redis 스냅샷으로 응답
      */
     @GetMapping
-    public List<PostDto> list(HttpServletRequest request) {
+    public ResponseEntity<?> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request
+    ) {
         if (isAdmin(request)) {
-            return postService.listAllForAdmin();
+            return ResponseEntity.ok(postService.listAllForAdmin(cursor, size));
+        }
+        if ((cursor == null || cursor.isBlank()) && size == null) {
+            String json = frontPageCache.getOrLoad(() -> postService.listVisible(null, null));
+            return ResponseEntity.ok().contentType(JSON_UTF8).body(json);
         }
-        return postService.listVisible();
+        return ResponseEntity.ok(postService.listVisible(cursor, size));
+    }
+
+    /**
+     * 게시글 검색 (제목 + 본문, 점수순)
+     * GET /api/posts/search?q=&page=&size=
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PostDto.PostSearchPage> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(postService.search(q, page, size));
     }
 
     /**
      * 게시글 상세 조회
      * GET /api/posts/{id}
+     *
+     * - ETag 응답, If-None-Match 일치 시 304 (본문 없음)
      */
     @GetMapping("/{id}")
-    public PostDto detail(@PathVariable Long id, HttpServletRequest request) {
-        return postService.detail(id, isAdmin(request));
+    public ResponseEntity<PostDto> detail(@PathVariable Long id, HttpServletRequest request) {
+        PostDetailCache.Entry e = postService.detailCached(id, isAdmin(request));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(e.etag())
+                .body(e.dto());
+    }
+
+    /**
+     * 게시글 상세 캐시 통계 (관리자)
+     * GET /api/posts/detail-cache/stats
+     */
+    @GetMapping("/detail-cache/stats")
+    public ResponseEntity<PostDetailCache.Stats> detailCacheStats(HttpServletRequest request) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(postService.detailCacheStats());
     }
 
     /**
@@ -68,20 +119,26 @@ public class PostController {
     }
 
     /**
-     * 게시글 비밀번호 검증
+     * 게시글 비밀번호 검증 (편집 토큰 발급)
      * POST /api/posts/{id}/verify-password
+     *
+     * - 발급된 editToken은 수정/삭제/파일 삭제에서 비밀번호 대신 사용 가능
      */
     @PostMapping("/{id}/verify-password")
-    public ResponseEntity<Map<String, Boolean>> verifyPassword(
+    public ResponseEntity<Map<String, Object>> verifyPassword(
             @PathVariable Long id,
             @RequestBody PostPasswordRequest req
     ) {
-        postService.verifyPasswordOrThrow(id, req.postPassword());
-        return ResponseEntity.ok(Map.of("ok", true));
+        EditToken token = postService.verifyPasswordOrThrow(id, req.postPassword());
+        return ResponseEntity.ok(Map.of(
+                "ok", true,
+                "editToken", token.token(),
+                "expiresAt", token.expiresAt()
+        ));
     }
 
     /**
-     * 게시글 삭제 (soft delete, 비밀번호 필요)
+     * 게시글 삭제 (soft delete, 비밀번호 또는 편집 토큰 필요)
      * POST /api/posts/{id}/delete
      */
     @PostMapping("/{id}/delete")
@@ -89,7 +146,7 @@ public class PostController {
             @PathVariable Long id,
             @RequestBody PostPasswordRequest req
     ) {
-        postService.deletePost(id, req.postPassword());
+        postService.deletePost(id, req.postPassword(), req.editToken());
         return ResponseEntity.ok(Map.of("ok", true));
     }
 
@@ -110,6 +167,22 @@ public class PostController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * 게시글 일괄 삭제/복구 (관리자, 첨부파일 포함)
+     * PATCH /api/posts/deleted
+     */
+    @PatchMapping("/deleted")
+    public ResponseEntity<Map<String, Object>> setDeletedBulk(
+            @RequestBody PostBulkDeleteRequest req,
+            HttpServletRequest request
+    ) {
+        if (!isAdmin(request)) {
+            return ResponseEntity.status(401).build();
+        }
+        int affected = postService.setDeletedBulk(req.ids(), req.deleted());
+        return ResponseEntity.ok(Map.of("ok", true, "affected", affected));
+    }
+
     /**
      * 게시글 수정
      * POST /api/posts/{id}/update
@@ -119,7 +192,7 @@ public class PostController {
             @PathVariable Long id,
             @RequestBody PostUpdateRequest req
     ) {
-        postService.updatePost(id, req.title(), req.content(), req.postPassword());
+        postService.updatePost(id, req.title(), req.content(), req.postPassword(), req.editToken());
         return ResponseEntity.ok(Map.of("ok", true));
     }
 
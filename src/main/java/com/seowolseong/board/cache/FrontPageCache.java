@@ -0,0 +1,92 @@
+package com.seowolseong.board.cache;
+
+import com.seowolseong.board.dto.PostDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 첫 페이지 스냅샷 캐시 (Redis)
+ *
+ * - 일반 사용자 목록 첫 페이지를 직렬화된 JSON 그대로 저장한다.
+ * - 세대(generation) 키를 증가시켜 무효화한다.
+ *   (무효화 이전에 조회한 스냅샷이 새 세대 키에 저장되지 않도록 하기 위함)
+ * - Redis 장애 시 DB 조회로 대체한다.
+ */
+@Component
+public class FrontPageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontPageCache.class);
+
+    private static final String GEN_KEY = "board:posts:front:gen";
+    private static final String PAGE_KEY_PREFIX = "board:posts:front:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.posts.front-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.posts.front-cache.ttl:5m}")
+    private Duration ttl;
+
+    public FrontPageCache(StringRedisTemplate redis, ObjectMapper objectMapper) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 첫 페이지 JSON 조회 (없으면 loader로 생성 후 저장)
+     */
+    public String getOrLoad(Supplier<PostDto.PostPage> loader) {
+        if (!enabled) {
+            return objectMapper.writeValueAsString(loader.get());
+        }
+
+        String gen;
+        try {
+            gen = currentGeneration();
+            String cached = redis.opsForValue().get(PAGE_KEY_PREFIX + gen);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("front page cache read failed: {}", e.toString());
+            return objectMapper.writeValueAsString(loader.get());
+        }
+
+        String json = objectMapper.writeValueAsString(loader.get());
+
+        try {
+            redis.opsForValue().set(PAGE_KEY_PREFIX + gen, json, ttl);
+        } catch (Exception e) {
+            log.warn("front page cache write failed: {}", e.toString());
+        }
+        return json;
+    }
+
+    /**
+     * 스냅샷 무효화 (세대 증가)
+     */
+    public void invalidate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redis.opsForValue().increment(GEN_KEY);
+        } catch (Exception e) {
+            log.warn("front page cache invalidate failed: {}", e.toString());
+        }
+    }
+
+    private String currentGeneration() {
+        String gen = redis.opsForValue().get(GEN_KEY);
+        return (gen == null) ? "0" : gen;
+    }
+}
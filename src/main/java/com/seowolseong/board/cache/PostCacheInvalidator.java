@@ -0,0 +1,87 @@
+package com.seowolseong.board.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 변경 시 캐시 무효화
+ *
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다.
+ *   (커밋 전 무효화 시 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있음)
+ * - 트랜잭션 밖에서 호출되면 즉시 무효화한다.
+ * - 로컬 상세 캐시는 즉시 제거하고, 다른 노드에는 Redis pub/sub으로 알린다.
+ */
+@Component
+public class PostCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(PostCacheInvalidator.class);
+
+    private final FrontPageCache frontPageCache;
+    private final PostDetailCache detailCache;
+    private final StringRedisTemplate redis;
+
+    public PostCacheInvalidator(FrontPageCache frontPageCache,
+                                PostDetailCache detailCache,
+                                StringRedisTemplate redis) {
+        this.frontPageCache = frontPageCache;
+        this.detailCache = detailCache;
+        this.redis = redis;
+    }
+
+    /**
+     * 게시글(또는 첨부파일) 변경 알림
+     */
+    public void postChanged(Long postId) {
+        runAfterCommit(() -> {
+            frontPageCache.invalidate();
+            detailCache.evict(postId);
+            publish(postId);
+        });
+    }
+
+    /**
+     * 여러 게시글 변경 알림 (무효화 / 알림 1회)
+     */
+    public void postsChanged(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> {
+            frontPageCache.invalidate();
+            postIds.forEach(detailCache::evict);
+            publish(postIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        });
+    }
+
+    private void publish(Long postId) {
+        publish(String.valueOf(postId));
+    }
+
+    private void publish(String body) {
+        try {
+            redis.convertAndSend(PostChangeSubscriber.CHANNEL, body);
+        } catch (Exception e) {
+            log.warn("post change publish failed: postIds={}, {}", body, e.toString());
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
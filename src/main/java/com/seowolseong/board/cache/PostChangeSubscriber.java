@@ -0,0 +1,59 @@
+package com.seowolseong.board.cache;
+
+import com.seowolseong.board.search.PostSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다른 노드의 게시글 변경 알림 수신 (Redis pub/sub)
+ *
+ * - 로컬 상세 캐시 항목을 제거한다.
+ * - 검색 색인은 DB에서 다시 읽어 반영한다. (자기 노드 알림도 수신되지만 결과는 같음)
+ * - 메시지 본문: 게시글 id (여러 건은 콤마 구분)
+ */
+@Component
+public class PostChangeSubscriber implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PostChangeSubscriber.class);
+
+    public static final String CHANNEL = "board:posts:changed";
+
+    private final PostDetailCache detailCache;
+    private final PostSearchIndex searchIndex;
+
+    public PostChangeSubscriber(PostDetailCache detailCache, PostSearchIndex searchIndex) {
+        this.detailCache = detailCache;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> ids = new ArrayList<>();
+        for (String id : body.split(",")) {
+            try {
+                Long postId = Long.valueOf(id.trim());
+                detailCache.evict(postId);
+                ids.add(postId);
+            } catch (NumberFormatException e) {
+                log.warn("invalid post change message: {}", body);
+            }
+        }
+
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            searchIndex.reload(ids);
+        } catch (Exception e) {
+            log.warn("search index reload failed: postIds={}, {}", body, e.toString());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.seowolseong.board.cache;
+
+import com.seowolseong.board.dto.PostDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 응답 캐시 (in-process, LRU)
+ *
+ * - 게시글 ID 기준으로 상세 DTO와 ETag를 보관한다.
+ * - 전체 용량(추정 바이트)으로 제한하며, 초과 시 가장 오래 사용되지 않은 항목부터 제거한다.
+ * - TTL은 다른 노드의 무효화 메시지를 놓쳤을 때를 위한 안전장치다.
+ */
+@Component
+public class PostDetailCache {
+
+    /**
+     * 캐시 항목 (상세 DTO + ETag)
+     */
+    public record Entry(
+            PostDto dto,
+            String etag,
+            long weight,
+            long loadedAtNanos
+    ) {}
+
+    /**
+     * 캐시 통계
+     */
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            int entries,
+            long weightBytes,
+            long maxWeightBytes
+    ) {}
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalWeight;
+
+    // 로딩 중 무효화가 있었는지 판단하기 위한 순번
+    private final AtomicLong invalidationSeq = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final long maxWeight;
+    private final long ttlNanos;
+
+    public PostDetailCache(
+            @Value("${app.posts.detail-cache.max-bytes:16777216}") long maxWeight,
+            @Value("${app.posts.detail-cache.ttl:10m}") Duration ttl
+    ) {
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되면 loader로 로딩 후 저장)
+     */
+    public Entry get(Long postId, Supplier<PostDto> loader) {
+        Entry cached = getIfPresent(postId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        long seq = invalidationSeq.get();
+        PostDto dto = loader.get();
+        Entry loaded = new Entry(dto, etagOf(dto), weightOf(dto), System.nanoTime());
+
+        lock.lock();
+        try {
+            // 로딩 도중 무효화가 있었다면 이전 데이터일 수 있으므로 저장하지 않는다.
+            if (seq == invalidationSeq.get() && loaded.weight() <= maxWeight) {
+                Entry prev = entries.put(postId, loaded);
+                if (prev != null) {
+                    totalWeight -= prev.weight();
+                }
+                totalWeight += loaded.weight();
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시 항목 제거
+     */
+    public void evict(Long postId) {
+        invalidationSeq.incrementAndGet();
+        lock.lock();
+        try {
+            Entry prev = entries.remove(postId);
+            if (prev != null) {
+                totalWeight -= prev.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits.get(), misses.get(), evictions.get(),
+                    entries.size(), totalWeight, maxWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry getIfPresent(Long postId) {
+        lock.lock();
+        try {
+            Entry e = entries.get(postId);
+            if (e == null) {
+                return null;
+            }
+            if (System.nanoTime() - e.loadedAtNanos() > ttlNanos) {
+                entries.remove(postId);
+                totalWeight -= e.weight();
+                return null;
+            }
+            return e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 용량 초과분 제거 (lock 보유 상태에서 호출)
+     */
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && it.hasNext()) {
+            Entry e = it.next().getValue();
+            it.remove();
+            totalWeight -= e.weight();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * ETag 생성 (게시글 ID + 수정/삭제 시각 + 첨부파일 상태)
+     */
+    static String etagOf(PostDto dto) {
+        int filesHash = 1;
+        if (dto.files() != null) {
+            for (PostDto.FileItem f : dto.files()) {
+                filesHash = 31 * filesHash + Long.hashCode(f.id());
+            }
+        }
+        return "\"p" + dto.id()
+                + "-" + micros(dto.updatedAt())
+                + "-" + micros(dto.deletedAt())
+                + "-" + Integer.toHexString(filesHash) + "\"";
+    }
+
+    /**
+     * 항목 크기 추정 (문자열은 2바이트/문자 기준)
+     */
+    static long weightOf(PostDto dto) {
+        long w = 128;
+        w += 2L * length(dto.title());
+        w += 2L * length(dto.content());
+        if (dto.files() != null) {
+            for (PostDto.FileItem f : dto.files()) {
+                w += 64 + 2L * length(f.originalName()) + 2L * length(f.contentType());
+            }
+        }
+        return w;
+    }
+
+    private static long micros(OffsetDateTime t) {
+        return (t == null) ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, t.toInstant());
+    }
+
+    private static int length(String s) {
+        return (s == null) ? 0 : s.length();
+    }
+}
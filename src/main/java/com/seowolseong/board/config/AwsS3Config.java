@@ -1,25 +1,107 @@
 package com.seowolseong.board.config;
 
+import com.seowolseong.board.metrics.S3CallInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
 
 /**
  * AWS S3 클라이언트 설정
+ *
+ * - 연결 풀 크기 / 연결·획득 타임아웃 / API 호출 타임아웃을 설정값으로 지정한다.
+ * - 업로드/다운로드 전송은 S3AsyncClient(Netty)를 사용하고,
+ *   HEAD/DELETE 등 짧은 호출은 S3Client(Apache)를 사용한다.
+ * - 두 클라이언트 모두 S3CallInterceptor로 호출 시간 / 재시도 / 전송량을 기록한다.
  */
 @Configuration
 public class AwsS3Config {
 
+    // 연결 풀
+    @Value("${app.s3.client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${app.s3.client.max-pending-acquires:10000}")
+    private int maxPendingAcquires;
+
+    // 네트워크 타임아웃
+    @Value("${app.s3.client.connection-timeout:2s}")
+    private Duration connectionTimeout;
+
+    @Value("${app.s3.client.connection-acquisition-timeout:5s}")
+    private Duration connectionAcquisitionTimeout;
+
+    @Value("${app.s3.client.socket-timeout:30s}")
+    private Duration socketTimeout;
+
+    // API 호출 타임아웃 (재시도 1회 / 전체)
+    @Value("${app.s3.client.api-call-attempt-timeout:30s}")
+    private Duration apiCallAttemptTimeout;
+
+    @Value("${app.s3.client.api-call-timeout:120s}")
+    private Duration apiCallTimeout;
+
     /**
-     * S3Client Bean 등록
+     * S3Client Bean 등록 (동기, Apache HTTP 클라이언트)
      */
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(S3CallInterceptor interceptor) {
         return S3Client.builder()
                 .region(Region.AP_NORTHEAST_2)
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionTimeout(connectionTimeout)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                        .socketTimeout(socketTimeout))
+                .overrideConfiguration(overrideConfiguration(interceptor))
+                .build();
+    }
+
+    /**
+     * S3AsyncClient Bean 등록 (비동기, Netty HTTP 클라이언트)
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient(S3CallInterceptor interceptor) {
+        return S3AsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConnections)
+                        .maxPendingConnectionAcquires(maxPendingAcquires)
+                        .connectionTimeout(connectionTimeout)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                        .readTimeout(socketTimeout)
+                        .writeTimeout(socketTimeout))
+                .overrideConfiguration(overrideConfiguration(interceptor))
+                .build();
+    }
+
+    /**
+     * S3Presigner Bean 등록 (presigned URL 발급)
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .build();
+    }
+
+    private ClientOverrideConfiguration overrideConfiguration(S3CallInterceptor interceptor) {
+        return ClientOverrideConfiguration.builder()
+                .apiCallAttemptTimeout(apiCallAttemptTimeout)
+                .apiCallTimeout(apiCallTimeout)
+                .addExecutionInterceptor(interceptor)
                 .build();
     }
 }
@@ -0,0 +1,132 @@
+package com.seowolseong.board.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문 바이트 수 집계 (접근 로그용)
+ *
+ * - getOutputStream: 실제로 기록된 바이트를 센다.
+ * - getWriter: 문자를 응답 문자셋(UTF-8 / 1바이트 문자셋) 기준 바이트로 환산해 센다.
+ *   그 외 문자셋은 문자 수로 근사한다.
+ * - 기록은 요청(또는 비동기) 스레드 하나에서만, 읽기는 완료 이후이므로 volatile로 충분하다.
+ */
+class CountingResponse extends HttpServletResponseWrapper {
+
+    private volatile long bytes;
+    private ServletOutputStream out;
+    private PrintWriter writer;
+
+    CountingResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    /**
+     * 지금까지 기록된 본문 바이트 수
+     */
+    long bytes() {
+        return bytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (out == null) {
+            out = new CountingOutputStream(super.getOutputStream());
+        }
+        return out;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            boolean utf8 = StandardCharsets.UTF_8.name().equalsIgnoreCase(getCharacterEncoding());
+            writer = new PrintWriter(new CountingWriter(super.getWriter(), utf8));
+        }
+        return writer;
+    }
+
+    private final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            bytes += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+
+    private final class CountingWriter extends Writer {
+
+        private final Writer delegate;
+        private final boolean utf8;
+
+        CountingWriter(Writer delegate, boolean utf8) {
+            this.delegate = delegate;
+            this.utf8 = utf8;
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) throws IOException {
+            delegate.write(buf, off, len);
+            if (!utf8) {
+                bytes += len;
+                return;
+            }
+            long n = 0;
+            for (int i = off; i < off + len; i++) {
+                char c = buf[i];
+                // 서로게이트 쌍은 2 + 2 = 4바이트
+                n += (c < 0x80) ? 1 : (c < 0x800 || Character.isSurrogate(c)) ? 2 : 3;
+            }
+            bytes += n;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
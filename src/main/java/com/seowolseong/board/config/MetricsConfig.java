@@ -0,0 +1,101 @@
+package com.seowolseong.board.config;
+
+import com.seowolseong.board.cache.PostDetailCache;
+import com.seowolseong.board.search.PostSearchIndex;
+import com.seowolseong.board.service.LocalFileCache;
+import com.seowolseong.board.service.PasswordHasher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 메트릭 (Prometheus: /actuator/prometheus, 관리 포트)
+ *
+ * - HTTP 요청(http.server.requests), HikariCP, Tomcat 스레드, Lettuce(Redis) 지표는 자동 등록된다.
+ * - 서비스 메서드 지연 시간은 @Timed("board.service")로 기록한다.
+ * - 아래는 인메모리 상태(캐시 / 비밀번호 해시 풀)를 기존 stats()로 노출한다.
+ * - 모든 지표에 application 태그가 붙는다. (management.metrics.tags.application)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 비밀번호 해시 작업 풀 (board.password.hasher.*)
+     */
+    @Bean
+    MeterBinder passwordHasherMetrics(PasswordHasher hasher) {
+        return registry -> {
+            Gauge.builder("board.password.hasher.active", hasher, h -> h.stats().active())
+                    .description("실행 중인 해시 작업 수")
+                    .register(registry);
+            Gauge.builder("board.password.hasher.queued", hasher, h -> h.stats().queued())
+                    .description("대기 중인 해시 작업 수")
+                    .register(registry);
+            Gauge.builder("board.password.hasher.threads", hasher, h -> h.stats().threads())
+                    .register(registry);
+            FunctionCounter.builder("board.password.hasher.rejected", hasher, h -> h.stats().rejected())
+                    .description("대기열 초과로 거절된 요청 수 (503)")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 게시글 상세 캐시 (board.cache.*{cache=post-detail})
+     */
+    @Bean
+    MeterBinder postDetailCacheMetrics(PostDetailCache cache) {
+        return registry -> {
+            String name = "post-detail";
+            FunctionCounter.builder("board.cache.hits", cache, c -> c.stats().hits())
+                    .tag("cache", name).register(registry);
+            FunctionCounter.builder("board.cache.misses", cache, c -> c.stats().misses())
+                    .tag("cache", name).register(registry);
+            FunctionCounter.builder("board.cache.evictions", cache, c -> c.stats().evictions())
+                    .tag("cache", name).register(registry);
+            Gauge.builder("board.cache.entries", cache, c -> c.stats().entries())
+                    .tag("cache", name).register(registry);
+            Gauge.builder("board.cache.size", cache, c -> c.stats().weightBytes())
+                    .tag("cache", name).baseUnit("bytes").register(registry);
+        };
+    }
+
+    /**
+     * 첨부파일 로컬 디스크 캐시 (board.cache.*{cache=file-disk})
+     */
+    @Bean
+    MeterBinder localFileCacheMetrics(LocalFileCache cache) {
+        return registry -> {
+            String name = "file-disk";
+            FunctionCounter.builder("board.cache.hits", cache, c -> c.stats().hits())
+                    .tag("cache", name).register(registry);
+            FunctionCounter.builder("board.cache.misses", cache, c -> c.stats().misses())
+                    .tag("cache", name).register(registry);
+            FunctionCounter.builder("board.cache.evictions", cache, c -> c.stats().evictions())
+                    .tag("cache", name).register(registry);
+            Gauge.builder("board.cache.entries", cache, c -> c.stats().entries())
+                    .tag("cache", name).register(registry);
+            Gauge.builder("board.cache.size", cache, c -> c.stats().bytes())
+                    .tag("cache", name).baseUnit("bytes").register(registry);
+        };
+    }
+
+    /**
+     * 게시글 검색 색인 (board.search.*)
+     */
+    @Bean
+    MeterBinder postSearchIndexMetrics(PostSearchIndex index) {
+        return registry -> {
+            Gauge.builder("board.search.docs", index, i -> i.stats().docs())
+                    .description("색인된 게시글 수")
+                    .register(registry);
+            Gauge.builder("board.search.terms", index, i -> i.stats().terms())
+                    .description("색인 토큰 수")
+                    .register(registry);
+            Gauge.builder("board.search.postings", index, i -> i.stats().postings())
+                    .description("포스팅 항목 수 (삭제 대기 포함)")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.seowolseong.board.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 비밀번호 인코더 설정 (게시글 / 관리자 공용)
+ *
+ * - 기동 시 BCrypt 1회 해시 시간을 측정해 목표 지연 시간에 맞는 강도(cost)를 고른다.
+ * - 새 해시는 "{bcrypt}$2a${cost}$..." 형식으로 저장한다. (방식 / 강도가 해시에 기록됨)
+ * - 접두어 없는 기존 해시도 검증되며, 검증 성공 시 현재 강도로 다시 해시한다. (upgradeEncoding)
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    // 고정 강도 (0 = 자동 측정)
+    @Value("${app.password.bcrypt.strength:0}")
+    private int strength;
+
+    // 해시 1회 목표 시간
+    @Value("${app.password.bcrypt.target:250ms}")
+    private Duration target;
+
+    @Value("${app.password.bcrypt.min-strength:10}")
+    private int minStrength;
+
+    @Value("${app.password.bcrypt.max-strength:14}")
+    private int maxStrength;
+
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        int cost = (strength > 0)
+                ? strength
+                : calibrate(target, minStrength, maxStrength, PasswordEncoderConfig::measureNanos);
+        log.info("bcrypt strength={} (target={}ms, fixed={})", cost, target.toMillis(), strength > 0);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(cost))
+        );
+        // 접두어 없는 기존 해시 ($2a$10$...)
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /**
+     * 목표 시간 이내의 최대 강도 계산
+     *
+     * - 최소 강도에서 측정한 시간을 기준으로 강도 1 증가 = 시간 2배로 추정한다.
+     */
+    static int calibrate(Duration target, int min, int max, IntToLongFunction measure) {
+        measure.applyAsLong(min); // JIT 워밍업
+        long nanos = Math.min(measure.applyAsLong(min), measure.applyAsLong(min));
+
+        int cost = min;
+        long t = Math.max(nanos, 1);
+        while (cost < max && t * 2 <= target.toNanos()) {
+            t *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    private static long measureNanos(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long t0 = System.nanoTime();
+        encoder.encode("bcrypt-calibration");
+        return System.nanoTime() - t0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.seowolseong.board.config;
+
+import com.seowolseong.board.cache.PostChangeSubscriber;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 설정
+ *
+ * - 게시글 변경 알림을 모든 노드가 수신하도록 구독한다.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostChangeSubscriber postChangeSubscriber
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(postChangeSubscriber, new ChannelTopic(PostChangeSubscriber.CHANNEL));
+        return container;
+    }
+}
@@ -6,42 +6,151 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 요청 ID + 접근 로그 필터
+ *
+ * - X-Request-Id 헤더가 없으면(또는 형식이 맞지 않으면) 새 ID를 만들어 MDC(rid) / 응답 헤더에 설정한다.
+ * - 요청마다 접근 로그 1건(method / path / status / ms / bytes)을 "access" 로거로 남긴다.
+ * - bytes는 응답 본문에 실제로 기록된 바이트 수 + Tomcat sendfile 전송 구간 길이다. (CountingResponse)
+ * - 비동기 응답(다운로드 등)은 응답 완료 시점에 기록한다.
+ * - 로그 출력은 logback AsyncAppender가 처리한다. (요청 스레드에서 I/O 없음)
+ */
 @Component
 public class RequestIdFilter implements Filter {
 
-    private static final Logger log = LoggerFactory.getLogger(RequestIdFilter.class);
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
     private static final String RID_HEADER = "X-Request-Id";
     private static final String MDC_KEY = "rid";
+    private static final int MAX_RID_LENGTH = 64;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        
+
         HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        CountingResponse httpResponse = new CountingResponse((HttpServletResponse) response);
+
+        long start = System.nanoTime();
+        String rid = requestId(httpRequest.getHeader(RID_HEADER));
+
+        MDC.put(MDC_KEY, rid);
+        httpResponse.setHeader(RID_HEADER, rid);
+        try {
+            chain.doFilter(request, httpResponse);
+        } finally {
+            if (httpRequest.isAsyncStarted()) {
+                httpRequest.getAsyncContext().addListener(new AccessLogListener(rid, start, httpRequest, httpResponse));
+            } else {
+                logAccess(httpRequest, httpResponse, start);
+            }
+            MDC.remove(MDC_KEY);
+        }
+    }
 
-        String rid = httpRequest.getHeader(RID_HEADER);
-        if (!StringUtils.hasText(rid)) {
-            rid = UUID.randomUUID().toString().split("-")[0];
+    /**
+     * 요청 ID (전달받은 값이 안전하면 그대로, 아니면 16자리 hex 생성)
+     */
+    static String requestId(String incoming) {
+        if (isValid(incoming)) {
+            return incoming;
         }
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
 
+    /**
+     * 로그 / 헤더에 그대로 써도 되는 값인지 (영숫자 . _ - 만, 최대 64자)
+     */
+    private static boolean isValid(String rid) {
+        if (rid == null || rid.isEmpty() || rid.length() > MAX_RID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < rid.length(); i++) {
+            char c = rid.charAt(i);
+            boolean ok = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!ok) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 접근 로그 1건
+     */
+    private static void logAccess(HttpServletRequest request, CountingResponse response, long start) {
+        if (!accessLog.isInfoEnabled()) {
+            return;
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        accessLog.info("method={} path={} status={} ms={} bytes={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), ms,
+                response.bytes() + sendfileBytes(request, response));
+    }
+
+    /**
+     * sendfile로 넘긴 구간 길이 (본문 스트림을 거치지 않으므로 요청 속성에서 계산)
+     *
+     * - start / end(미포함)가 없으면 파일 전체이므로 Content-Length를 사용한다.
+     */
+    static long sendfileBytes(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getAttribute(SENDFILE_FILENAME_ATTR) == null) {
+            return 0;
+        }
+        if (request.getAttribute(SENDFILE_START_ATTR) instanceof Long s
+                && request.getAttribute(SENDFILE_END_ATTR) instanceof Long e) {
+            return Math.max(e - s, 0);
+        }
+        String length = response.getHeader(HttpHeaders.CONTENT_LENGTH);
         try {
+            return (length == null) ? 0 : Long.parseLong(length);
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * 비동기 응답 완료 시 접근 로그 (완료 스레드에서 rid 복원)
+     */
+    private record AccessLogListener(
+            String rid,
+            long start,
+            HttpServletRequest request,
+            CountingResponse response
+    ) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
             MDC.put(MDC_KEY, rid);
-            httpResponse.setHeader(RID_HEADER, rid);
+            try {
+                logAccess(request, response, start);
+            } finally {
+                MDC.remove(MDC_KEY);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
 
-            log.info(">>> [Request] {} {}", httpRequest.getMethod(), httpRequest.getRequestURI());
+        @Override
+        public void onError(AsyncEvent event) {
+        }
 
-            chain.doFilter(request, response);
-            
-            log.info("<<< [Response] status: {}", httpResponse.getStatus());
-        } finally {
-            MDC.clear();
+        @Override
+        public void onStartAsync(AsyncEvent event) {
         }
     }
-}
\ No newline at end of file
+}
@@ -11,10 +11,11 @@ import java.time.OffsetDateTime;
 public class Post {
 
     /**
-     * 게시글 ID
+     * 게시글 ID (시퀀스, 50개 단위 할당)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_id_gen")
+    @SequenceGenerator(name = "posts_id_gen", sequenceName = "posts_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -31,8 +32,10 @@ public class Post {
 
     /**
      * 게시글 비밀번호 해시
+     *
+     * - 변경은 PostRepository.updatePasswordHash(bulk update)로만 한다.
      */
-    @Column(name = "password_hash", length = 100, nullable = false)
+    @Column(name = "password_hash", length = 100, nullable = false, updatable = false)
     private String passwordHash;
 
     /**
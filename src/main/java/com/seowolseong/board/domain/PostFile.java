@@ -11,10 +11,11 @@ import java.time.OffsetDateTime;
 public class PostFile {
 
     /**
-     * 파일 ID
+     * 파일 ID (시퀀스, 50개 단위 할당, insert 배치 가능)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_files_id_gen")
+    @SequenceGenerator(name = "post_files_id_gen", sequenceName = "post_files_id_seq", allocationSize = 50)
     private Long id;
 
     /**
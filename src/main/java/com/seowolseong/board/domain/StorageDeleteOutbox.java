@@ -0,0 +1,117 @@
+package com.seowolseong.board.domain;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+
+/**
+ * 저장소(S3) 삭제 대기 엔티티 (outbox)
+ *
+ * - 파일 삭제 트랜잭션 안에서 함께 저장하고, 실제 S3 삭제는 StorageDeleteDispatcher가 처리한다.
+ */
+@Entity
+@Table(name = "storage_delete_outbox")
+public class StorageDeleteOutbox {
+
+    /**
+     * 대기 ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "storage_delete_outbox_id_gen")
+    @SequenceGenerator(name = "storage_delete_outbox_id_gen", sequenceName = "storage_delete_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 파일 ID
+     */
+    @Column(name = "file_id")
+    private Long fileId;
+
+    /**
+     * 게시글 ID
+     */
+    @Column(name = "post_id")
+    private Long postId;
+
+    /**
+     * 삭제할 S3 키
+     */
+    @Column(name = "stored_key", length = 512, nullable = false)
+    private String storedKey;
+
+    /**
+     * 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    /**
+     * 처리 점유 만료 시각 (처리 중인 노드가 죽으면 만료 후 재처리)
+     */
+    @Column(name = "locked_until")
+    private OffsetDateTime lockedUntil;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 생성 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    protected StorageDeleteOutbox() {}
+
+    public StorageDeleteOutbox(Long fileId, Long postId, String storedKey, OffsetDateTime nextAttemptAt) {
+        this.fileId = fileId;
+        this.postId = postId;
+        this.storedKey = storedKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    @PrePersist
+    void prePersist() {
+        this.createdAt = OffsetDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    // ===== 도메인 행위 =====
+
+    /**
+     * 처리 점유
+     */
+    public void lease(OffsetDateTime until) {
+        this.lockedUntil = until;
+    }
+
+    /**
+     * 실패 기록 + 다음 시도 예약
+     */
+    public void retryAt(OffsetDateTime next, String error) {
+        this.attempts++;
+        this.nextAttemptAt = next;
+        this.lockedUntil = null;
+        this.lastError = error;
+    }
+
+    // getters
+    public Long getId() { return id; }
+    public Long getFileId() { return fileId; }
+    public Long getPostId() { return postId; }
+    public String getStoredKey() { return storedKey; }
+    public int getAttempts() { return attempts; }
+    public OffsetDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public OffsetDateTime getLockedUntil() { return lockedUntil; }
+    public String getLastError() { return lastError; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+}
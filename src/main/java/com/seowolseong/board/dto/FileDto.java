@@ -0,0 +1,17 @@
+package com.seowolseong.board.dto;
+
+/**
+ * 파일 API DTO
+ */
+public record FileDto() {
+
+    /**
+     * 업로드 URL 발급 요청 (S3 직접 업로드)
+     */
+    public record PresignUploadRequest(
+            Long postId,
+            String fileName,
+            String contentType,
+            Long sizeBytes
+    ) {}
+}
@@ -27,11 +27,34 @@ public record PostDto(
             String contentType
     ) {}
 
+    /**
+     * 게시글 목록 페이지 (keyset)
+     *
+     * - nextCursor가 null이면 마지막 페이지
+     */
+    public record PostPage(
+            List<PostDto> items,
+            String nextCursor
+    ) {}
+
+    /**
+     * 게시글 검색 결과 페이지 (점수순)
+     *
+     * - page는 0부터, total은 전체 일치 건수
+     */
+    public record PostSearchPage(
+            List<PostDto> items,
+            int total,
+            int page,
+            int size
+    ) {}
+
     /**
      * 게시글 비밀번호 검증 요청
      */
     public record PostPasswordRequest(
-            String postPassword
+            String postPassword,
+            String editToken
     ) {}
 
     /**
@@ -40,7 +63,8 @@ public record PostDto(
     public record PostUpdateRequest(
             String title,
             String content,
-            String postPassword
+            String postPassword,
+            String editToken
     ) {}
 
     /**
@@ -59,6 +83,14 @@ public record PostDto(
             boolean deleted
     ) {}
 
+    /**
+     * 일괄 삭제/복구 요청 (관리자)
+     */
+    public record PostBulkDeleteRequest(
+            List<Long> ids,
+            boolean deleted
+    ) {}
+
     /**
      * 인증 사용자 정보
      */
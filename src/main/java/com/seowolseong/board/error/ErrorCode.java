@@ -26,6 +26,7 @@ public enum ErrorCode {
     POST_PASSWORD_REQUIRED(400, "비밀번호를 입력하세요."),
     POST_PASSWORD_MISMATCH(403, "비밀번호가 틀립니다."),
     POST_PASSWORD_VERIFY_FAILED(403, "비밀번호 검증에 실패했습니다."),
+    POST_EDIT_TOKEN_INVALID(403, "편집 토큰이 유효하지 않습니다. 비밀번호를 다시 입력하세요."),
     POST_CREATE_FAILED(500, "게시글 생성에 실패했습니다."),
     POST_UPDATE_FAILED(500, "게시글 수정에 실패했습니다."),
     POST_DELETE_FAILED(500, "게시글 삭제에 실패했습니다."),
@@ -65,6 +66,7 @@ public enum ErrorCode {
 
     /* ---------- System ---------- */
     INTERNAL_ERROR(500, "서버 오류가 발생했습니다."),
+    SERVER_BUSY(503, "요청이 많습니다. 잠시 후 다시 시도하세요."),
     NOT_IMPLEMENTED(501, "아직 구현되지 않았습니다.");
 
     private final int status;
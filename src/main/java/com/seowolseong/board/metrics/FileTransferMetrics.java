@@ -0,0 +1,64 @@
+package com.seowolseong.board.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 첨부파일 전송량 카운터 (bytes)
+ *
+ * - board.files.upload.bytes{mode=server|presign}
+ * - board.files.download.bytes{source=s3|cache}
+ */
+@Component
+public class FileTransferMetrics {
+
+    private final Counter uploadServer;
+    private final Counter uploadPresign;
+    private final Counter downloadS3;
+    private final Counter downloadCache;
+
+    public FileTransferMetrics(MeterRegistry registry) {
+        this.uploadServer = upload(registry, "server");
+        this.uploadPresign = upload(registry, "presign");
+        this.downloadS3 = download(registry, "s3");
+        this.downloadCache = download(registry, "cache");
+    }
+
+    /**
+     * 서버 경유 업로드 (multipart 요청 → S3)
+     */
+    public void uploaded(long bytes) {
+        if (bytes > 0) uploadServer.increment(bytes);
+    }
+
+    /**
+     * S3 직접 업로드 완료 (presigned PUT)
+     */
+    public void uploadedDirect(long bytes) {
+        if (bytes > 0) uploadPresign.increment(bytes);
+    }
+
+    /**
+     * 다운로드 전송 (S3 스트림 / 로컬 디스크 캐시)
+     */
+    public void downloaded(long bytes, boolean fromCache) {
+        if (bytes > 0) (fromCache ? downloadCache : downloadS3).increment(bytes);
+    }
+
+    private static Counter upload(MeterRegistry registry, String mode) {
+        return Counter.builder("board.files.upload.bytes")
+                .baseUnit("bytes")
+                .description("첨부파일 업로드 바이트")
+                .tag("mode", mode)
+                .register(registry);
+    }
+
+    private static Counter download(MeterRegistry registry, String source) {
+        return Counter.builder("board.files.download.bytes")
+                .baseUnit("bytes")
+                .description("첨부파일 다운로드 바이트")
+                .tag("source", source)
+                .register(registry);
+    }
+}
@@ -0,0 +1,221 @@
+package com.seowolseong.board.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 호출 계측 (AwsS3Config에서 동기 / 비동기 클라이언트에 등록)
+ *
+ * - board.s3.calls{operation, outcome}: 호출 전체 시간 (재시도 포함, outcome = success | 오류 코드)
+ * - board.s3.first-byte{operation=GetObject}: 마지막 시도의 전송 시작 ~ 응답 헤더 수신 시간 (재시도 / backoff 제외)
+ * - board.s3.retries{operation}: 재시도 횟수
+ * - board.s3.bytes{operation, direction=sent|received}: 요청 / 응답 본문 크기 (Content-Length 기준)
+ * - 임계값 이상 걸린 호출은 요청 ID(rid)와 함께 WARN 로그를 남긴다.
+ *
+ * 스트리밍 GetObject는 응답 헤더 수신 시점에 완료되므로 본문 전송 시간은 포함되지 않는다.
+ */
+@Component
+public class S3CallInterceptor implements ExecutionInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(S3CallInterceptor.class);
+
+    private static final String RID = "rid";
+
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("BoardS3StartNanos");
+    private static final ExecutionAttribute<Long> ATTEMPT_START_NANOS = new ExecutionAttribute<>("BoardS3AttemptStartNanos");
+    private static final ExecutionAttribute<Long> FIRST_BYTE_NANOS = new ExecutionAttribute<>("BoardS3FirstByteNanos");
+    private static final ExecutionAttribute<Integer> ATTEMPTS = new ExecutionAttribute<>("BoardS3Attempts");
+    private static final ExecutionAttribute<Long> BYTES_SENT = new ExecutionAttribute<>("BoardS3BytesSent");
+    private static final ExecutionAttribute<Long> BYTES_RECEIVED = new ExecutionAttribute<>("BoardS3BytesReceived");
+    private static final ExecutionAttribute<String> REQUEST_ID = new ExecutionAttribute<>("BoardS3Rid");
+
+    private final MeterRegistry registry;
+    private final Duration slowThreshold;
+
+    public S3CallInterceptor(
+            MeterRegistry registry,
+            @Value("${app.s3.client.slow-call-threshold:1s}") Duration slowThreshold
+    ) {
+        this.registry = registry;
+        this.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * 호출 시작 (호출 스레드, 요청 ID 보관)
+     */
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attrs) {
+        attrs.putAttribute(START_NANOS, System.nanoTime());
+        attrs.putAttribute(ATTEMPTS, 0);
+        attrs.putAttribute(REQUEST_ID, MDC.get(RID));
+    }
+
+    /**
+     * HTTP 전송 직전 (시도마다 호출)
+     */
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes attrs) {
+        Integer attempts = attrs.getAttribute(ATTEMPTS);
+        attrs.putAttribute(ATTEMPTS, (attempts == null ? 0 : attempts) + 1);
+        attrs.putAttribute(ATTEMPT_START_NANOS, System.nanoTime());
+        attrs.putAttribute(BYTES_SENT, contentLength(context.httpRequest()));
+    }
+
+    /**
+     * 응답 헤더 수신
+     */
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes attrs) {
+        attrs.putAttribute(FIRST_BYTE_NANOS, System.nanoTime());
+        attrs.putAttribute(BYTES_RECEIVED, contentLength(context.httpResponse()));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attrs) {
+        record(attrs, "success");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attrs) {
+        record(attrs, errorCode(context.exception()));
+    }
+
+    private void record(ExecutionAttributes attrs, String outcome) {
+        Long start = attrs.getAttribute(START_NANOS);
+        if (start == null) {
+            return;
+        }
+        long end = System.nanoTime();
+        long totalNanos = end - start;
+
+        String operation = attrs.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        if (operation == null) {
+            operation = "unknown";
+        }
+
+        Timer.builder("board.s3.calls")
+                .description("S3 호출 시간 (재시도 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+
+        Long attemptStart = attrs.getAttribute(ATTEMPT_START_NANOS);
+        Long firstByte = attrs.getAttribute(FIRST_BYTE_NANOS);
+        // 마지막 시도가 응답 없이 실패했으면 이전 시도의 수신 시각은 버린다. (음수)
+        long firstByteNanos = (firstByte == null || attemptStart == null) ? -1 : firstByte - attemptStart;
+        if (firstByteNanos >= 0 && "GetObject".equals(operation)) {
+            Timer.builder("board.s3.first-byte")
+                    .description("S3 응답 헤더 수신까지 시간")
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(firstByteNanos, TimeUnit.NANOSECONDS);
+        }
+
+        Integer attempts = attrs.getAttribute(ATTEMPTS);
+        int retries = (attempts == null) ? 0 : Math.max(attempts - 1, 0);
+        if (retries > 0) {
+            counter("board.s3.retries", operation).increment(retries);
+        }
+
+        long sent = orZero(attrs.getAttribute(BYTES_SENT));
+        long received = orZero(attrs.getAttribute(BYTES_RECEIVED));
+        if (sent > 0) {
+            bytes(operation, "sent").increment(sent);
+        }
+        if (received > 0) {
+            bytes(operation, "received").increment(received);
+        }
+
+        if (totalNanos >= slowThreshold.toNanos()) {
+            logSlowCall(attrs.getAttribute(REQUEST_ID), operation, outcome,
+                    totalNanos, firstByteNanos, attempts, sent, received);
+        }
+    }
+
+    /**
+     * 느린 호출 로그 (비동기 클라이언트 스레드에서도 요청 ID 표시)
+     */
+    private static void logSlowCall(String rid, String operation, String outcome,
+                                    long totalNanos, long firstByteNanos, Integer attempts,
+                                    long sent, long received) {
+        String previous = MDC.get(RID);
+        if (rid != null) {
+            MDC.put(RID, rid);
+        }
+        try {
+            log.warn("s3 slow call: op={} outcome={} ms={} firstByteMs={} attempts={} sent={} received={}",
+                    operation, outcome,
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                    firstByteNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(firstByteNanos),
+                    attempts, sent, received);
+        } finally {
+            if (previous == null) {
+                MDC.remove(RID);
+            } else {
+                MDC.put(RID, previous);
+            }
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private Counter bytes(String operation, String direction) {
+        return Counter.builder("board.s3.bytes")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .tag("direction", direction)
+                .register(registry);
+    }
+
+    /**
+     * 오류 코드 (S3 오류 코드 > HTTP 상태 > 클라이언트 예외 이름)
+     */
+    private static String errorCode(Throwable e) {
+        if (e instanceof AwsServiceException ase) {
+            if (ase.awsErrorDetails() != null && ase.awsErrorDetails().errorCode() != null) {
+                return ase.awsErrorDetails().errorCode();
+            }
+            return String.valueOf(ase.statusCode());
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    private static long contentLength(SdkHttpHeaders headers) {
+        return headers.firstMatchingHeader("Content-Length")
+                .map(v -> {
+                    try {
+                        return Long.parseLong(v);
+                    } catch (NumberFormatException e) {
+                        return 0L;
+                    }
+                })
+                .orElse(0L);
+    }
+
+    private static long orZero(Long v) {
+        return v == null ? 0 : v;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -28,36 +29,77 @@ public interface PostFileRepository extends JpaRepository<PostFile, Long> {
     /* ---------- Delete ---------- */
     long deleteByPostId(Long postId);
 
-    /* ---------- Soft delete ---------- */
-
-    /* ---------- Soft delete ---------- */
+    /* ---------- Status ---------- */
 
     /**
-     * 파일 삭제 (status=DELETED, deletedAt 설정)
+     * 업로드 완료 (status=READY)
      */
     @Modifying
     @Query("""
         update PostFile f
-           set f.status = com.seowolseong.board.domain.FileStatus.DELETED,
-               f.deletedAt = CURRENT_TIMESTAMP,
+           set f.status = com.seowolseong.board.domain.FileStatus.READY,
+               f.errorMessage = null,
                f.updatedAt = CURRENT_TIMESTAMP
          where f.id = :fileId
-           and f.deletedAt is null
     """)
-    int softDeleteById(Long fileId);
+    int markReady(Long fileId);
 
     /**
-     * 게시글 파일 전체 삭제 (status=DELETED, deletedAt 설정)
+     * 업로드 실패 (status=FAILED)
      */
     @Modifying
     @Query("""
         update PostFile f
-           set f.status = com.seowolseong.board.domain.FileStatus.DELETED,
-               f.deletedAt = CURRENT_TIMESTAMP,
+           set f.status = com.seowolseong.board.domain.FileStatus.FAILED,
+               f.errorMessage = :errorMessage,
                f.updatedAt = CURRENT_TIMESTAMP
-         where f.postId = :postId
+         where f.id = :fileId
+    """)
+    int markFailed(Long fileId, String errorMessage);
+
+    /* ---------- Soft delete ---------- */
+
+    /**
+     * 게시글 일괄 삭제에 따른 파일 삭제 (status 유지, deletedAt = 게시글 deletedAt)
+     *
+     * - status를 유지해 복구 시 개별 삭제(DELETED) 파일과 구분한다.
+     * - 기존 softDeleteByPostId(status=DELETED)는 복구할 수 없어 이 쿼리로 대체했다.
+     */
+    @Modifying
+    @Query("""
+        update PostFile f
+           set f.deletedAt = :deletedAt,
+               f.updatedAt = :deletedAt
+         where f.postId in (
+                   select p.id from Post p
+                    where p.id in :postIds
+                      and p.deletedAt = :deletedAt
+               )
            and f.deletedAt is null
     """)
-    int softDeleteByPostId(Long postId);
+    int cascadeSoftDeleteByPostIdIn(Collection<Long> postIds, OffsetDateTime deletedAt);
+
+    /**
+     * 게시글 일괄 복구에 따른 파일 복구
+     *
+     * - 게시글과 함께 삭제된 파일(deletedAt 동일, DELETED 아님)만 복구한다.
+     * - S3 삭제가 아직 처리되지 않은(대기 중이며 점유되지 않은) 파일만 대상이다.
+     * - 호출 전에 해당 게시글의 outbox 행을 잠가야 한다. (StorageDeleteOutboxService.lockForRestore)
+     */
+    @Modifying
+    @Query("""
+        update PostFile f
+           set f.deletedAt = null,
+               f.updatedAt = :now
+         where f.postId in :postIds
+           and f.status <> com.seowolseong.board.domain.FileStatus.DELETED
+           and f.deletedAt = (select p.deletedAt from Post p where p.id = f.postId)
+           and exists (
+               select 1 from StorageDeleteOutbox o
+                where o.fileId = f.id
+                  and (o.lockedUntil is null or o.lockedUntil < :now)
+           )
+    """)
+    int cascadeRestoreByPostIdIn(Collection<Long> postIds, OffsetDateTime now);
 
 }
@@ -0,0 +1,17 @@
+package com.seowolseong.board.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션
+ *
+ * - 본문(content)은 조회하지 않는다.
+ * - hasFiles는 post_files EXISTS 서브쿼리로 한 번에 계산한다.
+ */
+public record PostListRow(
+        Long id,
+        String title,
+        OffsetDateTime createdAt,
+        OffsetDateTime deletedAt,
+        boolean hasFiles
+) {}
@@ -1,8 +1,14 @@
 package com.seowolseong.board.repository;
 
 import com.seowolseong.board.domain.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,12 +17,153 @@ import java.util.List;
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
-     * 삭제되지 않은 게시글 최신 50건 조회
+     * 삭제되지 않은 게시글 목록 조회 (최신순, 첨부 여부 포함)
      */
-    List<Post> findTop50ByDeletedAtIsNullOrderByCreatedAtDescIdDesc();
+    @Query("""
+        select new com.seowolseong.board.repository.PostListRow(
+                   p.id, p.title, p.createdAt, p.deletedAt,
+                   case when exists (
+                       select 1 from PostFile f
+                        where f.postId = p.id
+                          and f.deletedAt is null
+                   ) then true else false end)
+          from Post p
+         where p.deletedAt is null
+         order by p.createdAt desc, p.id desc
+    """)
+    List<PostListRow> findVisibleRows(Limit limit);
 
     /**
-     * 전체 게시글 최신 50건 조회 (관리자)
+     * 전체 게시글 목록 조회 (관리자, 최신순, 첨부 여부 포함)
      */
-    List<Post> findTop50ByOrderByCreatedAtDescIdDesc();
+    @Query("""
+        select new com.seowolseong.board.repository.PostListRow(
+                   p.id, p.title, p.createdAt, p.deletedAt,
+                   case when exists (
+                       select 1 from PostFile f
+                        where f.postId = p.id
+                          and f.deletedAt is null
+                   ) then true else false end)
+          from Post p
+         order by p.createdAt desc, p.id desc
+    """)
+    List<PostListRow> findAllRows(Limit limit);
+
+    /**
+     * 삭제되지 않은 게시글 다음 페이지 조회 (커서 이후, keyset)
+     */
+    @Query("""
+        select new com.seowolseong.board.repository.PostListRow(
+                   p.id, p.title, p.createdAt, p.deletedAt,
+                   case when exists (
+                       select 1 from PostFile f
+                        where f.postId = p.id
+                          and f.deletedAt is null
+                   ) then true else false end)
+          from Post p
+         where p.deletedAt is null
+           and p.createdAt <= :createdAt
+           and (p.createdAt < :createdAt or p.id < :id)
+         order by p.createdAt desc, p.id desc
+    """)
+    List<PostListRow> findVisibleRowsBefore(OffsetDateTime createdAt, Long id, Limit limit);
+
+    /**
+     * 전체 게시글 다음 페이지 조회 (관리자, 커서 이후, keyset)
+     */
+    @Query("""
+        select new com.seowolseong.board.repository.PostListRow(
+                   p.id, p.title, p.createdAt, p.deletedAt,
+                   case when exists (
+                       select 1 from PostFile f
+                        where f.postId = p.id
+                          and f.deletedAt is null
+                   ) then true else false end)
+          from Post p
+         where p.createdAt <= :createdAt
+           and (p.createdAt < :createdAt or p.id < :id)
+         order by p.createdAt desc, p.id desc
+    """)
+    List<PostListRow> findAllRowsBefore(OffsetDateTime createdAt, Long id, Limit limit);
+
+    /**
+     * 삭제되지 않은 게시글 목록 조회 (id 지정, 검색 결과 조회용)
+     */
+    @Query("""
+        select new com.seowolseong.board.repository.PostListRow(
+                   p.id, p.title, p.createdAt, p.deletedAt,
+                   case when exists (
+                       select 1 from PostFile f
+                        where f.postId = p.id
+                          and f.deletedAt is null
+                   ) then true else false end)
+          from Post p
+         where p.id in :ids
+           and p.deletedAt is null
+    """)
+    List<PostListRow> findVisibleRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * 검색 색인 구축용 조회 (삭제되지 않은 게시글, id 순, id 이후)
+     */
+    @Query("""
+        select new com.seowolseong.board.repository.PostSearchRow(p.id, p.title, p.content)
+          from Post p
+         where p.deletedAt is null
+           and p.id > :afterId
+         order by p.id
+    """)
+    List<PostSearchRow> findSearchRowsAfter(Long afterId, Limit limit);
+
+    /**
+     * 검색 색인 갱신용 조회 (삭제되지 않은 게시글, id 지정)
+     */
+    @Query("""
+        select new com.seowolseong.board.repository.PostSearchRow(p.id, p.title, p.content)
+          from Post p
+         where p.id in :ids
+           and p.deletedAt is null
+    """)
+    List<PostSearchRow> findSearchRowsByIdIn(Collection<Long> ids);
+
+    /**
+     * 비밀번호 해시 교체 (재해시, 기존 해시가 그대로일 때만)
+     *
+     * - bulk update라 updatedAt은 바뀌지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update Post p
+           set p.passwordHash = :newHash
+         where p.id = :id
+           and p.passwordHash = :oldHash
+    """)
+    int updatePasswordHash(Long id, String oldHash, String newHash);
+
+    /**
+     * 게시글 일괄 삭제 (관리자, 이미 삭제된 게시글 제외)
+     */
+    @Modifying
+    @Query("""
+        update Post p
+           set p.deletedAt = :now,
+               p.updatedAt = :now
+         where p.id in :ids
+           and p.deletedAt is null
+    """)
+    int softDeleteByIdIn(Collection<Long> ids, OffsetDateTime now);
+
+    /**
+     * 게시글 일괄 복구 (관리자)
+     */
+    @Modifying
+    @Query("""
+        update Post p
+           set p.deletedAt = null,
+               p.updatedAt = :now
+         where p.id in :ids
+           and p.deletedAt is not null
+    """)
+    int restoreByIdIn(Collection<Long> ids, OffsetDateTime now);
 }
@@ -0,0 +1,10 @@
+package com.seowolseong.board.repository;
+
+/**
+ * 검색 색인용 프로젝션 (삭제되지 않은 게시글의 제목 + 본문)
+ */
+public record PostSearchRow(
+        Long id,
+        String title,
+        String content
+) {}
@@ -0,0 +1,85 @@
+package com.seowolseong.board.repository;
+
+import com.seowolseong.board.domain.StorageDeleteOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저장소 삭제 대기(outbox) 리포지토리
+ */
+public interface StorageDeleteOutboxRepository extends JpaRepository<StorageDeleteOutbox, Long> {
+
+    /**
+     * 처리 대상 조회 (시도 시각 도래 + 점유 없음, 다른 노드가 잠근 행은 건너뜀)
+     */
+    @Query(value = """
+        select *
+          from storage_delete_outbox
+         where next_attempt_at <= :now
+           and (locked_until is null or locked_until < :now)
+         order by next_attempt_at, id
+         limit :limit
+           for update skip locked
+    """, nativeQuery = true)
+    List<StorageDeleteOutbox> findDueForUpdate(OffsetDateTime now, int limit);
+
+    /**
+     * 처리 완료 삭제
+     */
+    @Modifying
+    @Query("delete from StorageDeleteOutbox o where o.id in :ids")
+    int deleteByIdIn(Collection<Long> ids);
+
+    /**
+     * 게시글 일괄 삭제에 따른 파일 S3 삭제 예약 (INSERT ... SELECT 1회)
+     *
+     * - 함께 삭제된 파일(deleted_at 일치)만 예약한다. (개별 삭제 파일은 이미 예약됨)
+     */
+    @Modifying
+    @Query(value = """
+        insert into storage_delete_outbox
+               (id, file_id, post_id, stored_key, attempts, next_attempt_at, created_at)
+        select nextval('storage_delete_outbox_id_seq'), f.id, f.post_id, f.stored_key, 0, :nextAttemptAt, now()
+          from post_files f
+         where f.post_id in (:postIds)
+           and f.deleted_at = :deletedAt
+           and f.status <> 'DELETED'
+           and f.stored_key is not null
+    """, nativeQuery = true)
+    int enqueueCascadeByPostIdIn(Collection<Long> postIds, OffsetDateTime deletedAt, OffsetDateTime nextAttemptAt);
+
+    /**
+     * 게시글 복구 전 S3 삭제 예약 잠금 (처리기 점유와 직렬화)
+     *
+     * - 점유 중인 트랜잭션이 있으면 커밋될 때까지 기다린다. (이후 lockedUntil을 확인)
+     * - 잠근 동안 처리기는 SKIP LOCKED로 이 행들을 건너뛴다.
+     */
+    @Query(value = """
+        select id
+          from storage_delete_outbox
+         where post_id in (:postIds)
+         order by id
+           for update
+    """, nativeQuery = true)
+    List<Long> lockByPostIdIn(Collection<Long> postIds);
+
+    /**
+     * 복구된 파일의 S3 삭제 예약 취소
+     */
+    @Modifying
+    @Query("""
+        delete from StorageDeleteOutbox o
+         where o.postId in :postIds
+           and o.fileId in (
+               select f.id from PostFile f
+                where f.postId in :postIds
+                  and f.deletedAt is null
+           )
+    """)
+    int cancelByRestoredPostIdIn(Collection<Long> postIds);
+}
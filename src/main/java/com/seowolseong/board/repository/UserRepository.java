@@ -4,10 +4,26 @@ import com.seowolseong.board.domain.Admin;
 import com.seowolseong.board.domain.Post;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<Admin, Long> {
     Optional<Admin> findByUsername(String username);
+
+    /**
+     * 비밀번호 해시 교체 (재해시, 기존 해시가 그대로일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update Admin a
+           set a.passwordHash = :newHash
+         where a.id = :id
+           and a.passwordHash = :oldHash
+    """)
+    int updatePasswordHash(Long id, String oldHash, String newHash);
 }
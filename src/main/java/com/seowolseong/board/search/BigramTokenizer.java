@@ -0,0 +1,83 @@
+package com.seowolseong.board.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.IntConsumer;
+
+/**
+ * 문자 n-gram 토크나이저 (형태소 분석 없이 한국어 검색)
+ *
+ * - NFKC 정규화 + 소문자 변환 후, 글자/숫자가 연속된 구간(run) 단위로 자른다.
+ * - 토큰은 int 하나로 표현한다.
+ *   - 2-gram: (앞 글자 << 16) | 뒤 글자
+ *   - 1-gram: 글자 값 그대로 (앞 16비트가 0이므로 2-gram과 겹치지 않음)
+ * - 문서: 구간의 모든 1-gram + 2-gram 색인 (한 글자 검색어 지원)
+ * - 검색어: 두 글자 이상 구간은 2-gram만, 한 글자 구간은 1-gram
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {}
+
+    /**
+     * 문서 토큰 (중복 포함, 등장 순서)
+     */
+    public static void documentTerms(String text, IntConsumer sink) {
+        String s = normalize(text);
+        char prev = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isTokenChar(c)) {
+                prev = 0;
+                continue;
+            }
+            sink.accept(c);
+            if (prev != 0) {
+                sink.accept(bigram(prev, c));
+            }
+            prev = c;
+        }
+    }
+
+    /**
+     * 검색어 토큰 (중복 포함, 등장 순서)
+     */
+    public static void queryTerms(String text, IntConsumer sink) {
+        String s = normalize(text);
+        int i = 0;
+        while (i < s.length()) {
+            if (!isTokenChar(s.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < s.length() && isTokenChar(s.charAt(i))) {
+                i++;
+            }
+            if (i - start == 1) {
+                sink.accept(s.charAt(start));
+            } else {
+                for (int j = start + 1; j < i; j++) {
+                    sink.accept(bigram(s.charAt(j - 1), s.charAt(j)));
+                }
+            }
+        }
+    }
+
+    static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String s = Normalizer.isNormalized(text, Normalizer.Form.NFKC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFKC);
+        return s.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,364 @@
+package com.seowolseong.board.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (게시글 제목 + 본문)
+ *
+ * - 문서마다 내부 번호(doc)를 순서대로 부여하고, 포스팅은 doc 오름차순 int 배열 + 빈도 short 배열로 유지한다.
+ * - 수정/삭제는 기존 doc을 삭제 표시하고 새 doc을 추가한다. (포스팅은 항상 뒤에만 추가되어 정렬 유지)
+ * - 삭제 표시가 일정 비율을 넘으면 삭제된 doc을 포스팅에서 제거하고 번호를 다시 매긴다. (compact)
+ * - 검색: 검색어 토큰을 모두 포함하는 문서(AND), BM25 점수순 (제목 토큰은 빈도 3배), 동점은 최신 게시글 우선
+ * - 읽기/쓰기 잠금으로 동시 검색 / 갱신을 처리한다.
+ */
+public class InvertedIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double MIN_IDF = 1e-6;
+
+    // 삭제 doc 정리 기준 (개수 / 비율)
+    private static final int COMPACT_MIN_DEAD = 1024;
+    private static final double COMPACT_DEAD_RATIO = 0.3;
+
+    /**
+     * 검색 결과 항목
+     */
+    public record Hit(long postId, double score) {}
+
+    /**
+     * 검색 결과 (요청 구간 + 전체 일치 건수)
+     */
+    public record Result(List<Hit> hits, int total) {
+
+        static final Result EMPTY = new Result(List.of(), 0);
+    }
+
+    /**
+     * 색인 통계
+     */
+    public record Stats(
+            int docs,
+            int deadDocs,
+            int terms,
+            long postings
+    ) {}
+
+    // 점수 높은 순, 동점은 게시글 id 큰 순(최신)
+    private static final Comparator<Hit> BEST_FIRST = Comparator
+            .comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::postId).reversed());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final HashMap<Integer, Postings> postings = new HashMap<>();
+    private final HashMap<Long, Integer> docByPost = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private long[] docPost = new long[1024];
+    private int[] docLength = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private long liveLength;
+    private int deadDocs;
+
+    /**
+     * 게시글 색인 (이미 있으면 교체)
+     */
+    public void put(long postId, String title, String content) {
+
+        // 토큰 빈도 계산은 잠금 밖에서
+        Map<Integer, int[]> tf = new HashMap<>();
+        int[] length = new int[1];
+        BigramTokenizer.documentTerms(title, t -> {
+            tf.computeIfAbsent(t, k -> new int[1])[0] += TITLE_WEIGHT;
+            length[0]++;
+        });
+        BigramTokenizer.documentTerms(content, t -> {
+            tf.computeIfAbsent(t, k -> new int[1])[0]++;
+            length[0]++;
+        });
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+
+            int doc = docCount++;
+            if (doc == docPost.length) {
+                docPost = Arrays.copyOf(docPost, doc * 2);
+                docLength = Arrays.copyOf(docLength, doc * 2);
+            }
+            docPost[doc] = postId;
+            docLength[doc] = length[0];
+            live.set(doc);
+            liveDocs++;
+            liveLength += length[0];
+            docByPost.put(postId, doc);
+
+            tf.forEach((term, f) -> postings.computeIfAbsent(term, k -> new Postings()).add(doc, f[0]));
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 제거 (없으면 무시)
+     */
+    public void remove(Collection<Long> postIds) {
+        lock.writeLock().lock();
+        try {
+            postIds.forEach(this::removeLocked);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (offset부터 limit건)
+     */
+    public Result search(String query, int offset, int limit) {
+        Set<Integer> distinct = new LinkedHashSet<>();
+        BigramTokenizer.queryTerms(query, distinct::add);
+        if (distinct.isEmpty()) {
+            return Result.EMPTY;
+        }
+        int want = offset + limit;
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[distinct.size()];
+            int n = 0;
+            for (int term : distinct) {
+                Postings p = postings.get(term);
+                if (p == null) {
+                    return Result.EMPTY;
+                }
+                lists[n++] = p;
+            }
+            // 가장 짧은 포스팅 기준으로 교집합
+            Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = idf(lists[i].size);
+            }
+            double avgLength = liveDocs == 0 ? 1 : Math.max((double) liveLength / liveDocs, 1);
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(want, 1), BEST_FIRST.reversed());
+            int[] cursor = new int[lists.length];
+            int total = 0;
+
+            Postings first = lists[0];
+            candidates:
+            for (int i = 0; i < first.size; i++) {
+                int doc = first.docs[i];
+                if (!live.get(doc)) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * docLength[doc] / avgLength);
+                double score = idf[0] * bm25(first.freqs[i], norm);
+
+                for (int j = 1; j < lists.length; j++) {
+                    Postings p = lists[j];
+                    int k = p.seek(doc, cursor[j]);
+                    cursor[j] = k;
+                    if (k == p.size) {
+                        break candidates;
+                    }
+                    if (p.docs[k] != doc) {
+                        continue candidates;
+                    }
+                    score += idf[j] * bm25(p.freqs[k], norm);
+                }
+
+                total++;
+                if (want == 0) {
+                    continue;
+                }
+                long postId = docPost[doc];
+                if (top.size() < want) {
+                    top.add(new Hit(postId, score));
+                } else if (beats(score, postId, top.peek())) {
+                    top.poll();
+                    top.add(new Hit(postId, score));
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(BEST_FIRST);
+            List<Hit> page = (offset >= ranked.size())
+                    ? List.of()
+                    : List.copyOf(ranked.subList(offset, ranked.size()));
+            return new Result(page, total);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 여부
+     */
+    public boolean contains(long postId) {
+        lock.readLock().lock();
+        try {
+            return docByPost.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (Postings p : postings.values()) {
+                total += p.size;
+            }
+            return new Stats(liveDocs, deadDocs, postings.size(), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long postId) {
+        Integer doc = docByPost.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        liveDocs--;
+        liveLength -= docLength[doc];
+        deadDocs++;
+    }
+
+    private void compactIfNeeded() {
+        if (deadDocs >= COMPACT_MIN_DEAD && deadDocs > COMPACT_DEAD_RATIO * (liveDocs + deadDocs)) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 doc 제거 + 번호 재부여 (순서 유지 → 포스팅 정렬 유지)
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int d = 0; d < docCount; d++) {
+            remap[d] = live.get(d) ? next++ : -1;
+        }
+
+        long[] newPost = new long[Math.max(next * 2, 1024)];
+        int[] newLength = new int[newPost.length];
+        for (int d = 0; d < docCount; d++) {
+            if (remap[d] >= 0) {
+                newPost[remap[d]] = docPost[d];
+                newLength[remap[d]] = docLength[d];
+            }
+        }
+        docPost = newPost;
+        docLength = newLength;
+        docByPost.replaceAll((post, d) -> remap[d]);
+
+        Iterator<Postings> it = postings.values().iterator();
+        while (it.hasNext()) {
+            Postings p = it.next();
+            p.remap(remap);
+            if (p.size == 0) {
+                it.remove();
+            }
+        }
+
+        live.clear();
+        live.set(0, next);
+        docCount = next;
+        deadDocs = 0;
+    }
+
+    /**
+     * 현재 최하위 결과보다 앞서는지 (BEST_FIRST 기준, 객체 생성 없이)
+     */
+    private static boolean beats(double score, long postId, Hit worst) {
+        return score > worst.score() || (score == worst.score() && postId > worst.postId());
+    }
+
+    /**
+     * 포스팅 길이에는 아직 정리되지 않은 삭제 doc이 포함되므로 살아 있는 문서 수로 제한하고,
+     * 점수가 음수가 되어 순위가 뒤집히지 않도록 작은 양수 하한을 둔다.
+     */
+    private double idf(int postingSize) {
+        int df = Math.min(postingSize, liveDocs);
+        return Math.max(Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5)), MIN_IDF);
+    }
+
+    private static double bm25(int freq, double norm) {
+        return freq * (K1 + 1) / (freq + norm);
+    }
+
+    /**
+     * 토큰 하나의 포스팅 (doc 오름차순)
+     */
+    private static final class Postings {
+        int[] docs = new int[2];
+        short[] freqs = new short[2];
+        int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = (short) Math.min(freq, Short.MAX_VALUE);
+            size++;
+        }
+
+        /**
+         * from 이후에서 doc 이상인 첫 위치 (없으면 size), 지수 탐색 + 이진 탐색
+         */
+        int seek(int doc, int from) {
+            int lo = from;
+            int hi = from;
+            int step = 1;
+            while (hi < size && docs[hi] < doc) {
+                lo = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int idx = Arrays.binarySearch(docs, lo, Math.min(hi + 1, size), doc);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+
+        void remap(int[] remap) {
+            int w = 0;
+            for (int r = 0; r < size; r++) {
+                int d = remap[docs[r]];
+                if (d >= 0) {
+                    docs[w] = d;
+                    freqs[w] = freqs[r];
+                    w++;
+                }
+            }
+            size = w;
+            if (docs.length > Math.max(2, size * 2)) {
+                docs = Arrays.copyOf(docs, Math.max(2, size));
+                freqs = Arrays.copyOf(freqs, Math.max(2, size));
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.seowolseong.board.search;
+
+import com.seowolseong.board.error.ApiException;
+import com.seowolseong.board.error.ErrorCode;
+import com.seowolseong.board.repository.PostRepository;
+import com.seowolseong.board.repository.PostSearchRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 검색 색인 (노드별 in-process)
+ *
+ * - 기동 완료 후 삭제되지 않은 게시글을 id 순으로 나눠 읽어 색인한다. (구축 전 검색은 503)
+ * - 이 노드의 변경(생성/수정/삭제/복구)은 커밋 이후 바로 반영한다.
+ * - 다른 노드의 변경은 게시글 변경 알림(pub/sub)을 받아 DB에서 다시 읽어 반영한다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private final PostRepository postRepository;
+    private final InvertedIndex index = new InvertedIndex();
+
+    // 구축 중 변경된 게시글 (구축 후 DB에서 다시 반영)
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    // 기동 시 색인 구축 조회 단위
+    @Value("${app.search.build-batch-size:500}")
+    private int buildBatchSize;
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 기동 시 색인 구축
+     *
+     * - 실패해도 애플리케이션은 계속 동작한다. (검색만 503)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long t0 = System.currentTimeMillis();
+        int count = 0;
+
+        try {
+            long afterId = 0;
+            while (true) {
+                List<PostSearchRow> rows = postRepository.findSearchRowsAfter(afterId, Limit.of(buildBatchSize));
+                for (PostSearchRow r : rows) {
+                    index.put(r.id(), r.title(), r.content());
+                }
+                count += rows.size();
+                if (rows.size() < buildBatchSize) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).id();
+            }
+        } catch (Exception e) {
+            log.error("search index build failed: indexed={}", count, e);
+            return;
+        }
+
+        ready = true;
+
+        // 구축 중 읽은 값이 이후 변경을 덮어썼을 수 있으므로 다시 반영
+        List<Long> changed = new ArrayList<>(changedDuringBuild);
+        changedDuringBuild.removeAll(changed);
+        if (!changed.isEmpty()) {
+            reload(changed);
+        }
+
+        InvertedIndex.Stats s = index.stats();
+        log.info("search index built: posts={}, terms={}, postings={}, ms={}",
+                s.docs(), s.terms(), s.postings(), System.currentTimeMillis() - t0);
+    }
+
+    /**
+     * 검색 (점수순 offset부터 limit건)
+     */
+    public InvertedIndex.Result search(String query, int offset, int limit) {
+        if (!ready) {
+            throw new ApiException(ErrorCode.SERVER_BUSY, "검색 색인을 준비 중입니다.");
+        }
+        return index.search(query, offset, limit);
+    }
+
+    /**
+     * 게시글 생성/수정 반영 (커밋 이후)
+     */
+    public void indexAfterCommit(Long postId, String title, String content) {
+        markChanged(List.of(postId));
+        runAfterCommit(() -> index.put(postId, title, content));
+    }
+
+    /**
+     * 게시글 복구 반영 (커밋 이후)
+     */
+    public void indexAfterCommit(List<PostSearchRow> rows) {
+        markChanged(rows.stream().map(PostSearchRow::id).toList());
+        runAfterCommit(() -> rows.forEach(r -> index.put(r.id(), r.title(), r.content())));
+    }
+
+    /**
+     * 게시글 삭제 반영 (커밋 이후)
+     */
+    public void removeAfterCommit(Collection<Long> postIds) {
+        markChanged(postIds);
+        runAfterCommit(() -> index.remove(postIds));
+    }
+
+    /**
+     * DB 기준으로 다시 반영 (다른 노드의 변경 알림)
+     *
+     * - 삭제되었거나 없는 게시글은 색인에서 제거한다.
+     */
+    public void reload(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        markChanged(postIds);
+
+        List<PostSearchRow> rows = postRepository.findSearchRowsByIdIn(postIds);
+        Set<Long> gone = new HashSet<>(postIds);
+        for (PostSearchRow r : rows) {
+            gone.remove(r.id());
+            index.put(r.id(), r.title(), r.content());
+        }
+        index.remove(gone);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public InvertedIndex.Stats stats() {
+        return index.stats();
+    }
+
+    /**
+     * 구축 중 변경 기록 (반영보다 먼저 기록해야 구축 완료 직전 변경도 놓치지 않음)
+     */
+    private void markChanged(Collection<Long> postIds) {
+        if (!ready) {
+            changedDuringBuild.addAll(postIds);
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
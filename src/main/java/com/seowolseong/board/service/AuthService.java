@@ -1,6 +1,5 @@
 package com.seowolseong.board.service; 
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.seowolseong.board.domain.Admin;
@@ -13,20 +12,25 @@ import com.seowolseong.board.repository.UserRepository;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final PasswordHasher passwordHasher;
 
-    public AuthService(UserRepository userRepository) {
+    public AuthService(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     public AuthUser authenticate(String username, String password) {
     	Admin u = userRepository.findByUsername(username)
             .orElseThrow(() -> new ApiException(ErrorCode.AUTH_LOGIN_FAILED));
 
-        if (!encoder.matches(password, u.getPasswordHash())) {
+        if (!passwordHasher.matches(password, u.getPasswordHash())) {
             throw new ApiException(ErrorCode.AUTH_LOGIN_FAILED);
         }
 
+        // 강도가 낮은 해시는 현재 강도로 재해시
+        passwordHasher.rehashIfNeeded(password, u.getPasswordHash(),
+                newHash -> userRepository.updatePasswordHash(u.getId(), u.getPasswordHash(), newHash) == 1);
+
         return new AuthUser(u.getId(), u.getUsername(), u.getRole());
     }
 }
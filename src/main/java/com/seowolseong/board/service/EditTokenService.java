@@ -0,0 +1,146 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.domain.Post;
+import com.seowolseong.board.error.ApiException;
+import com.seowolseong.board.error.ErrorCode;
+import com.seowolseong.board.repository.PostRepository;
+import com.seowolseong.board.service.model.EditToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 게시글 편집 토큰 (HMAC-SHA256)
+ *
+ * - 비밀번호 검증 성공 시 발급하고, 수정/삭제/파일 삭제에서 비밀번호 대신 사용한다.
+ * - 게시글 id / 만료 시각 / 현재 비밀번호 해시에 서명한다. (비밀번호가 바뀌면 무효)
+ * - 형식: base64url("{postId}:{expEpochSec}") + "." + base64url(hmac)
+ */
+@Component
+public class EditTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(EditTokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final PasswordHasher passwordHasher;
+    private final PostRepository postRepository;
+
+    public EditTokenService(
+            @Value("${app.edit-token.secret:}") String secret,
+            @Value("${app.edit-token.ttl:10m}") Duration ttl,
+            PasswordHasher passwordHasher,
+            PostRepository postRepository
+    ) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // 미설정 시 기동마다 임의 키 (재기동/다중 노드 간 토큰 호환 안 됨)
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("app.edit-token.secret is not set; using a random per-process key");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.passwordHasher = passwordHasher;
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 편집 토큰 발급
+     */
+    public EditToken issue(Post post) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        String payload = post.getId() + ":" + expiresAt.getEpochSecond();
+
+        String token = b64(payload.getBytes(StandardCharsets.US_ASCII))
+                + "." + b64(sign(payload, post.getPasswordHash()));
+        return new EditToken(token, expiresAt);
+    }
+
+    /**
+     * 편집 권한 확인 (토큰 우선, 없으면 비밀번호 검증)
+     */
+    public void authorizeOrThrow(Post post, String postPassword, String editToken) {
+        if (editToken != null && !editToken.isBlank()) {
+            if (!verify(editToken, post)) {
+                throw new ApiException(ErrorCode.POST_EDIT_TOKEN_INVALID);
+            }
+            return;
+        }
+
+        if (postPassword == null || postPassword.isBlank()) {
+            throw new ApiException(ErrorCode.POST_PASSWORD_REQUIRED);
+        }
+        if (!passwordHasher.matches(postPassword, post.getPasswordHash())) {
+            throw new ApiException(ErrorCode.POST_PASSWORD_MISMATCH);
+        }
+
+        // 강도가 낮은 해시는 현재 강도로 재해시 (이후 발급 토큰은 새 해시에 서명)
+        String oldHash = post.getPasswordHash();
+        String hash = passwordHasher.rehashIfNeeded(postPassword, oldHash,
+                newHash -> postRepository.updatePasswordHash(post.getId(), oldHash, newHash) == 1);
+        post.setPasswordHash(hash);
+    }
+
+    /**
+     * 토큰 검증 (게시글 id / 만료 / 서명)
+     */
+    boolean verify(String token, Post post) {
+        try {
+            int dot = token.indexOf('.');
+            if (dot <= 0) {
+                return false;
+            }
+            String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)),
+                    StandardCharsets.US_ASCII);
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+
+            int sep = payload.indexOf(':');
+            if (sep <= 0) {
+                return false;
+            }
+            long postId = Long.parseLong(payload.substring(0, sep));
+            long exp = Long.parseLong(payload.substring(sep + 1));
+
+            if (postId != post.getId() || Instant.now().getEpochSecond() > exp) {
+                return false;
+            }
+            return MessageDigest.isEqual(signature, sign(payload, post.getPasswordHash()));
+
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(String payload, String passwordHash) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(payload.getBytes(StandardCharsets.US_ASCII));
+            mac.update((byte) '|');
+            mac.update(String.valueOf(passwordHash).getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String b64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,17 +1,21 @@
 package com.seowolseong.board.service;
 
-import com.seowolseong.board.domain.FileStatus;
 import com.seowolseong.board.domain.PostFile;
 import com.seowolseong.board.repository.PostFileRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 파일 메타데이터 상태 관리 서비스
  *
  * - 파일 업로드 흐름에서 상태(PENDING/READY/FAILED)를 독립 트랜잭션으로 관리한다.
+ * - 상태 변경은 조회 없이 id 기준 UPDATE 한 번으로 처리한다.
  */
+@Timed(value = "board.service", histogram = true)
 @Service
 public class FileRecordService {
 
@@ -29,25 +33,27 @@ public class FileRecordService {
         return repo.saveAndFlush(pf);
     }
 
+    /**
+     * 파일 메타데이터 일괄 생성 (PENDING, 요청 단위 insert 배치)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PostFile> createPendingAll(List<PostFile> files) {
+        return repo.saveAll(files);
+    }
+
     /**
      * 파일 업로드 완료 처리
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public PostFile markReady(Long id) {
-        PostFile pf = repo.findById(id).orElseThrow();
-        pf.setStatus(FileStatus.READY);
-        pf.setErrorMessage(null);
-        return pf;
+    public void markReady(Long id) {
+        repo.markReady(id);
     }
 
     /**
      * 파일 업로드 실패 처리
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public PostFile markFailed(Long id, String msg) {
-        PostFile pf = repo.findById(id).orElseThrow();
-        pf.setStatus(FileStatus.FAILED);
-        pf.setErrorMessage(msg);
-        return pf;
+    public void markFailed(Long id, String msg) {
+        repo.markFailed(id, msg);
     }
 }
@@ -1,42 +1,71 @@
 package com.seowolseong.board.service;
 
+import com.seowolseong.board.cache.PostCacheInvalidator;
 import com.seowolseong.board.domain.FileStatus;
 import com.seowolseong.board.domain.Post;
 import com.seowolseong.board.domain.PostFile;
 import com.seowolseong.board.error.ApiException;
 import com.seowolseong.board.error.ErrorCode;
+import com.seowolseong.board.metrics.FileTransferMetrics;
 import com.seowolseong.board.repository.PostFileRepository;
 import com.seowolseong.board.repository.PostRepository;
+import com.seowolseong.board.service.model.FileDownloadMeta;
 import com.seowolseong.board.service.model.FileDownloadResource;
+import com.seowolseong.board.service.model.PresignedUpload;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.net.URI;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Timed(value = "board.service", histogram = true)
 @Service
 public class FileService {
 
     private final PostFileRepository postFileRepository;
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final FileRecordService fileRecordService;
+    private final PostCacheInvalidator cacheInvalidator;
+    private final UploadExecutor uploadExecutor;
+    private final S3MultipartUploader multipartUploader;
+    private final S3Presigner s3Presigner;
+    private final LocalFileCache localFileCache;
 
     private final PostRepository postRepository;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final EditTokenService editTokenService;
+    private final StorageDeleteOutboxService storageDeleteOutbox;
+    private final FileTransferMetrics transferMetrics;
 
     @Value("${app.s3.bucket}")
     private String bucket;
 
+    // S3 직접 업로드 URL 유효 시간
+    @Value("${app.files.presign-upload-ttl:10m}")
+    private Duration presignUploadTtl;
+
+    // 다운로드 presigned URL 유효 시간
+    @Value("${app.files.presign-download-ttl:5m}")
+    private Duration presignDownloadTtl;
+
     // 업로드 제한(크기/타입)
     private static final long MAX_FILE_BYTES = 20L * 1024 * 1024;
     private static final long BYTES_UPLOAD_THRESHOLD = 10L * 1024 * 1024;
@@ -52,13 +81,31 @@ public class FileService {
     public FileService(
             PostFileRepository postFileRepository,
             S3Client s3Client,
+            S3AsyncClient s3AsyncClient,
             FileRecordService fileRecordService,
-            PostRepository postRepository
+            PostRepository postRepository,
+            PostCacheInvalidator cacheInvalidator,
+            UploadExecutor uploadExecutor,
+            S3MultipartUploader multipartUploader,
+            S3Presigner s3Presigner,
+            LocalFileCache localFileCache,
+            EditTokenService editTokenService,
+            StorageDeleteOutboxService storageDeleteOutbox,
+            FileTransferMetrics transferMetrics
     ) {
         this.postFileRepository = postFileRepository;
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
         this.fileRecordService = fileRecordService;
         this.postRepository = postRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.uploadExecutor = uploadExecutor;
+        this.multipartUploader = multipartUploader;
+        this.s3Presigner = s3Presigner;
+        this.localFileCache = localFileCache;
+        this.editTokenService = editTokenService;
+        this.storageDeleteOutbox = storageDeleteOutbox;
+        this.transferMetrics = transferMetrics;
     }
 
     /**
@@ -102,8 +149,8 @@ public class FileService {
             throw new ApiException(ErrorCode.REQUIRED_FIELD_MISSING, "첨부파일 전체 용량은 60MB를 초과할 수 없습니다.");
         }
 
-        List<Long> ids = new ArrayList<>();
-
+        // 업로드 정책 검증 (업로드 시작 전 전체 파일 검증)
+        List<UploadItem> items = new ArrayList<>();
         for (MultipartFile file : validFiles) {
 
             // 파일 메타데이터 구성
@@ -113,7 +160,6 @@ public class FileService {
                     : "application/octet-stream";
             long size = file.getSize();
 
-            // 업로드 정책 검증
             if (size > MAX_FILE_BYTES) {
                 throw new ApiException(ErrorCode.FILE_UPLOAD_TOO_LARGE);
             }
@@ -123,54 +169,233 @@ public class FileService {
 
             // S3 키 생성
             String key = "posts/" + postId + "/" + UUID.randomUUID() + "_" + originalName;
+            items.add(new UploadItem(file, originalName, contentType, size, key));
+        }
 
-            // 메타데이터(PENDING) 생성
+        // 메타데이터(PENDING) 일괄 생성 (insert 배치 1회)
+        List<PostFile> pending = new ArrayList<>();
+        for (UploadItem item : items) {
             PostFile pf = new PostFile();
             pf.setPostId(postId);
-            pf.setOriginalName(originalName);
-            pf.setContentType(contentType);
-            pf.setSizeBytes(size);
-            pf.setStoredKey(key);
+            pf.setOriginalName(item.originalName());
+            pf.setContentType(item.contentType());
+            pf.setSizeBytes(item.size());
+            pf.setStoredKey(item.key());
             pf.setStatus(FileStatus.PENDING);
             pf.setErrorMessage(null);
+            pending.add(pf);
+        }
+        pending = fileRecordService.createPendingAll(pending);
+
+        // 파일별 업로드 동시 실행 (응답 ID 순서는 요청 순서 유지)
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            UploadItem item = items.get(i);
+            Long fileId = pending.get(i).getId();
+            futures.add(uploadExecutor.supply(() -> uploadOne(fileId, item)));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (CompletableFuture<Long> f : futures) {
+            ids.add(join(f));
+        }
+
+        // 첨부 여부(hasFiles) 변경 반영
+        cacheInvalidator.postChanged(postId);
+
+        return ids;
+    }
+
+    /**
+     * 단일 파일 업로드 (S3 업로드 → READY/FAILED)
+     */
+    private Long uploadOne(Long fileId, UploadItem item) {
+
+        // S3 업로드 + 상태 갱신
+        try {
+            PutObjectRequest putReq = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(item.key())
+                    .contentType(item.contentType())
+                    .build();
+
+            MultipartFile file = item.file();
+            if (item.size() <= BYTES_UPLOAD_THRESHOLD) {
+                s3AsyncClient.putObject(putReq, AsyncRequestBody.fromBytes(file.getBytes())).join();
+            } else {
+                // 대용량: 스트림에서 바로 멀티파트 업로드 (파트 병렬 전송)
+                try (InputStream in = file.getInputStream()) {
+                    multipartUploader.upload(item.key(), item.contentType(), in);
+                }
+            }
+
+            fileRecordService.markReady(fileId);
+            transferMetrics.uploaded(item.size());
+
+        } catch (Exception e) {
+            fileRecordService.markFailed(fileId, shortMsg(e));
+        }
+        return fileId;
+    }
+
+    /**
+     * 비동기 작업 결과 대기 (작업 예외는 그대로 전달)
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new ApiException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 업로드 대상 파일 (검증 완료)
+     */
+    private record UploadItem(
+            MultipartFile file,
+            String originalName,
+            String contentType,
+            long size,
+            String key
+    ) {}
+
+    /**
+     * S3 직접 업로드 URL 발급 (PENDING 생성 → presigned PUT URL)
+     *
+     * - Content-Type / Content-Length를 서명에 포함해 다른 형식/크기의 업로드를 막는다.
+     * - 업로드 후 completeUpload로 검증해야 READY가 된다.
+     */
+    public PresignedUpload presignUpload(Long postId, String fileName, String contentType, Long sizeBytes) {
+
+        // 입력값 검증
+        if (postId == null) {
+            throw new ApiException(ErrorCode.REQUIRED_FIELD_MISSING, "postId가 필요합니다.");
+        }
+        if (sizeBytes == null || sizeBytes <= 0) {
+            throw new ApiException(ErrorCode.FILE_UPLOAD_EMPTY);
+        }
+        if (sizeBytes > MAX_FILE_BYTES) {
+            throw new ApiException(ErrorCode.FILE_UPLOAD_TOO_LARGE);
+        }
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new ApiException(ErrorCode.FILE_CONTENT_TYPE_NOT_ALLOWED);
+        }
 
-            pf = fileRecordService.createPending(pf);
-            ids.add(pf.getId());
+        // 게시글 존재 확인
+        if (!postRepository.existsById(postId)) {
+            throw new ApiException(ErrorCode.POST_NOT_FOUND);
+        }
 
-            // S3 업로드 + 상태 갱신
-            try {
-                PutObjectRequest putReq = PutObjectRequest.builder()
+        String originalName = sanitizeFilename(fileName);
+        String key = "posts/" + postId + "/" + UUID.randomUUID() + "_" + originalName;
+
+        // 메타데이터(PENDING) 생성
+        PostFile pf = new PostFile();
+        pf.setPostId(postId);
+        pf.setOriginalName(originalName);
+        pf.setContentType(contentType);
+        pf.setSizeBytes(sizeBytes);
+        pf.setStoredKey(key);
+        pf.setStatus(FileStatus.PENDING);
+        pf.setErrorMessage(null);
+
+        pf = fileRecordService.createPending(pf);
+
+        // presigned PUT URL 발급
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignUploadTtl)
+                .putObjectRequest(PutObjectRequest.builder()
                         .bucket(bucket)
                         .key(key)
                         .contentType(contentType)
-                        .build();
-
-                if (size <= BYTES_UPLOAD_THRESHOLD) {
-                    s3Client.putObject(putReq, RequestBody.fromBytes(file.getBytes()));
-                } else {
-                    Path tmp = Files.createTempFile("upload-", ".tmp");
-                    try {
-                        file.transferTo(tmp.toFile());
-                        s3Client.putObject(putReq, RequestBody.fromFile(tmp));
-                    } finally {
-                        Files.deleteIfExists(tmp);
-                    }
-                }
+                        .contentLength(sizeBytes)
+                        .build())
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PresignedUpload(
+                pf.getId(),
+                presigned.url().toString(),
+                presigned.httpRequest().method().name(),
+                headers,
+                presigned.expiration()
+        );
+    }
 
-                fileRecordService.markReady(pf.getId());
+    /**
+     * S3 직접 업로드 완료 처리 (HEAD로 크기/형식 검증 → READY)
+     */
+    public void completeUpload(Long fileId) {
+
+        // 파일 메타 조회
+        PostFile pf = postFileRepository.findById(fileId)
+                .orElseThrow(() -> new ApiException(ErrorCode.FILE_NOT_FOUND));
 
-            } catch (Exception e) {
-                fileRecordService.markFailed(pf.getId(), shortMsg(e));
+        if (pf.getDeletedAt() != null || pf.getStatus() == FileStatus.DELETED) {
+            throw new ApiException(ErrorCode.FILE_ALREADY_DELETED);
+        }
+        if (pf.getStatus() == FileStatus.READY) {
+            return;
+        }
+        if (pf.getStatus() != FileStatus.PENDING) {
+            throw new ApiException(ErrorCode.FILE_STATUS_INVALID);
+        }
+
+        // S3 객체 확인
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(pf.getStoredKey())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new ApiException(ErrorCode.FILE_NOT_READY, "S3 업로드가 완료되지 않았습니다.");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new ApiException(ErrorCode.FILE_NOT_READY, "S3 업로드가 완료되지 않았습니다.");
             }
+            throw new ApiException(ErrorCode.S3_ERROR);
         }
 
-        return ids;
+        // 크기/형식 검증 (불일치 시 FAILED + 객체 삭제)
+        boolean sizeOk = head.contentLength() != null && head.contentLength().equals(pf.getSizeBytes());
+        boolean typeOk = pf.getContentType().equals(head.contentType());
+        if (!sizeOk || !typeOk) {
+            fileRecordService.markFailed(pf.getId(), "uploaded object mismatch: size="
+                    + head.contentLength() + ", type=" + head.contentType());
+            // 게시글 복구로 취소되지 않도록 postId 없이 예약
+            storageDeleteOutbox.enqueue(pf.getId(), null, pf.getStoredKey());
+            throw new ApiException(ErrorCode.FILE_STATUS_INVALID, "업로드된 파일 정보가 일치하지 않습니다.");
+        }
+
+        fileRecordService.markReady(pf.getId());
+        transferMetrics.uploadedDirect(head.contentLength());
+
+        // 첨부 여부(hasFiles) 변경 반영
+        cacheInvalidator.postChanged(pf.getPostId());
     }
 
     /**
      * 파일 다운로드 리소스 조회 (READY만 허용)
      */
     public FileDownloadResource loadForDownload(Long fileId) {
+        return open(findDownloadable(fileId));
+    }
+
+    /**
+     * 다운로드 가능한 파일 메타 조회 (DB만 조회, S3 미접근)
+     */
+    public FileDownloadMeta findDownloadable(Long fileId) {
 
         // 파일 메타 조회
         PostFile pf = postFileRepository.findById(fileId)
@@ -190,47 +415,127 @@ public class FileService {
             throw new ApiException(ErrorCode.S3_KEY_INVALID, "파일 키가 없습니다.");
         }
 
-        // S3 스트림 획득
+        return new FileDownloadMeta(
+                pf.getId(),
+                key,
+                pf.getOriginalName(),
+                pf.getContentType(),
+                pf.getSizeBytes(),
+                "\"f" + pf.getId() + "-" + Integer.toHexString(key.hashCode()) + "\"",
+                pf.getCreatedAt()
+        );
+    }
+
+    /**
+     * 다운로드용 presigned GET URL 발급
+     *
+     * - 응답 헤더(Content-Disposition / Content-Type)를 URL에 포함해 S3가 그대로 내려주도록 한다.
+     */
+    public URI presignDownload(FileDownloadMeta meta, String contentDisposition, String contentType) {
         try {
-            ResponseInputStream<?> in = s3Client.getObject(
+            PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                    .signatureDuration(presignDownloadTtl)
+                    .getObjectRequest(GetObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(meta.storedKey())
+                            .responseContentDisposition(contentDisposition)
+                            .responseContentType(contentType)
+                            .build())
+                    .build());
+            return presigned.url().toURI();
+
+        } catch (Exception e) {
+            throw new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "다운로드 URL 발급 실패");
+        }
+    }
+
+    /**
+     * S3 스트림 획득
+     */
+    public FileDownloadResource open(FileDownloadMeta meta) {
+        return join(openAsync(meta));
+    }
+
+    /**
+     * S3 스트림 비동기 획득 (응답 헤더 수신 시 완료, 본문은 스트림으로 읽음)
+     */
+    public CompletableFuture<FileDownloadResource> openAsync(FileDownloadMeta meta) {
+        return getObject(meta.storedKey(), null)
+                .thenApply(in -> new FileDownloadResource(
+                        in,
+                        meta.originalName(),
+                        meta.contentType(),
+                        meta.sizeBytes()
+                ));
+    }
+
+    /**
+     * S3 부분 스트림 획득 (start ~ end, end 포함)
+     */
+    public InputStream openRange(FileDownloadMeta meta, long start, long end) {
+        return join(openRangeAsync(meta, start, end));
+    }
+
+    /**
+     * S3 부분 스트림 비동기 획득 (start ~ end, end 포함)
+     */
+    public CompletableFuture<InputStream> openRangeAsync(FileDownloadMeta meta, long start, long end) {
+        return getObject(meta.storedKey(), "bytes=" + start + "-" + end);
+    }
+
+    private CompletableFuture<InputStream> getObject(String key, String range) {
+        CompletableFuture<InputStream> result;
+        try {
+            result = s3AsyncClient.getObject(
                     GetObjectRequest.builder()
                             .bucket(bucket)
                             .key(key)
-                            .build()
-            );
+                            .range(range)
+                            .build(),
+                    AsyncResponseTransformer.toBlockingInputStream()
+            ).thenApply(in -> in);
 
-            return new FileDownloadResource(
-                    (InputStream) in,
-                    pf.getOriginalName(),
-                    pf.getContentType(),
-                    pf.getSizeBytes()
-            );
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
 
-        } catch (NoSuchKeyException e) {
-            throw new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "S3에 파일이 없습니다.");
-        } catch (S3Exception e) {
-            if (e.statusCode() == 404) {
-                throw new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "S3에 파일이 없습니다.");
+        return result.exceptionally(e -> {
+            throw new CompletionException(toDownloadException(
+                    (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e));
+        });
+    }
+
+    /**
+     * S3 다운로드 예외 변환
+     */
+    private static ApiException toDownloadException(Throwable e) {
+        if (e instanceof ApiException ae) {
+            return ae;
+        }
+        if (e instanceof NoSuchKeyException) {
+            return new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "S3에 파일이 없습니다.");
+        }
+        if (e instanceof S3Exception se) {
+            if (se.statusCode() == 404) {
+                return new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "S3에 파일이 없습니다.");
             }
-            throw new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "S3 다운로드 실패");
-        } catch (Exception e) {
-            throw new ApiException(ErrorCode.FILE_DOWNLOAD_FAILED, "파일 다운로드 처리 실패");
+            return new ApiException(ErrorCode.STORAGE_DOWNLOAD_FAILED, "S3 다운로드 실패");
         }
+        return new ApiException(ErrorCode.FILE_DOWNLOAD_FAILED, "파일 다운로드 처리 실패");
     }
 
     /**
-     * 파일 삭제 (soft delete + S3 삭제)
+     * 파일 삭제 (soft delete + S3 삭제 예약, 비밀번호 또는 편집 토큰 필요)
+     *
+     * - S3 삭제는 같은 트랜잭션에서 outbox에 기록하고 StorageDeleteDispatcher가 처리한다.
      */
     @Transactional
-    public void deleteFile(Long fileId, String postPassword) {
+    public void deleteFile(Long fileId, String postPassword, String editToken) {
 
         // 입력값 검증
         if (fileId == null) {
             throw new ApiException(ErrorCode.REQUIRED_FIELD_MISSING, "fileId가 필요합니다.");
         }
-        if (postPassword == null || postPassword.isBlank()) {
-            throw new ApiException(ErrorCode.POST_PASSWORD_REQUIRED);
-        }
 
         // 파일 메타 조회
         PostFile pf = postFileRepository.findById(fileId)
@@ -241,31 +546,19 @@ public class FileService {
             throw new ApiException(ErrorCode.FILE_ALREADY_DELETED);
         }
 
-        // 게시글 조회 + 비밀번호 검증
+        // 게시글 조회 + 편집 권한 확인 (토큰 또는 비밀번호)
         Post post = postRepository.findById(pf.getPostId())
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
 
-        String hash = post.getPasswordHash();
-        if (hash == null || hash.isBlank() || !encoder.matches(postPassword, hash)) {
-            throw new ApiException(ErrorCode.POST_PASSWORD_MISMATCH);
-        }
+        editTokenService.authorizeOrThrow(post, postPassword, editToken);
 
         // DB soft delete
         pf.delete();
+        cacheInvalidator.postChanged(pf.getPostId());
+        localFileCache.evict(pf.getId());
 
-        // S3 객체 삭제
-        try {
-            String key = pf.getStoredKey();
-            if (key != null && !key.isBlank()) {
-                DeleteObjectRequest delReq = DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(key)
-                        .build();
-                s3Client.deleteObject(delReq);
-            }
-        } catch (Exception e) {
-            throw new ApiException(ErrorCode.STORAGE_DELETE_FAILED, "S3 파일 삭제 실패");
-        }
+        // S3 객체 삭제 예약 (outbox)
+        storageDeleteOutbox.enqueue(pf.getId(), pf.getPostId(), pf.getStoredKey());
     }
 
     /**
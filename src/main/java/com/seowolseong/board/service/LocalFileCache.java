@@ -0,0 +1,395 @@
+package com.seowolseong.board.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 첨부파일 로컬 디스크 캐시 (LRU, 용량 제한)
+ *
+ * - app.upload-dir 하위 디렉터리에 파일 ID 단위로 저장한다.
+ * - 첫 다운로드 시 S3 스트림을 응답과 동시에 기록(tee)하고, 완료되면 캐시에 등록한다.
+ * - 캐시 적중 시 컨트롤러가 sendfile / FileChannel.transferTo로 전송한다.
+ * - 조회 결과(Lease)는 전송이 끝날 때까지 파일을 고정한다.
+ *   전송 중 LRU로 밀려난 항목은 인덱스에서만 빠지고, 파일은 마지막 Lease 반환 시 삭제한다.
+ */
+@Component
+public class LocalFileCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFileCache.class);
+
+    private static final String SUFFIX = ".bin";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * 캐시 통계
+     */
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            int entries,
+            long bytes,
+            long maxBytes
+    ) {}
+
+    /**
+     * 캐시 항목 (refs / evicted는 lock 안에서만 변경)
+     */
+    private static final class Entry {
+        final Long fileId;
+        final Path path;
+        final long size;
+        int refs;
+        boolean evicted;
+
+        Entry(Long fileId, Path path, long size) {
+            this.fileId = fileId;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Path dir;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private volatile boolean enabled;
+
+    public LocalFileCache(
+            @Value("${app.upload-dir:/var/www/uploads}") String uploadDir,
+            @Value("${app.files.local-cache.enabled:true}") boolean enabled,
+            @Value("${app.files.local-cache.max-bytes:1073741824}") long maxBytes
+    ) {
+        this.dir = Paths.get(uploadDir, "file-cache");
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        // 파일 하나가 캐시 대부분을 밀어내지 않도록 항목 크기 제한
+        this.maxEntryBytes = maxBytes / 4;
+    }
+
+    /**
+     * 캐시 디렉터리 준비 + 기존 파일로 인덱스 복원
+     */
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(dir);
+
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> s = Files.list(dir)) {
+                s.forEach(files::add);
+            }
+            files.sort(Comparator.comparingLong(LocalFileCache::lastModified));
+
+            for (Path p : files) {
+                String name = p.getFileName().toString();
+                if (!name.endsWith(SUFFIX)) {
+                    Files.deleteIfExists(p);
+                    continue;
+                }
+                try {
+                    Long fileId = Long.valueOf(name.substring(0, name.length() - SUFFIX.length()));
+                    put(fileId, p, Files.size(p));
+                } catch (NumberFormatException e) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("local file cache disabled: dir={}, {}", dir, e.toString());
+            enabled = false;
+        }
+    }
+
+    /**
+     * 캐시 조회 (적중 시 전송이 끝나면 반드시 Lease를 반환해야 한다)
+     */
+    public Optional<Lease> lookup(Long fileId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        lock.lock();
+        try {
+            Entry e = entries.get(fileId);
+            if (e != null) {
+                e.refs++;
+                hits.incrementAndGet();
+                return Optional.of(new Lease(e));
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시 기록기 생성 (캐시 대상이 아니면 null)
+     */
+    public Writer openWriter(Long fileId, Long expectedSize) {
+        if (!enabled || expectedSize == null || expectedSize <= 0 || expectedSize > maxEntryBytes) {
+            return null;
+        }
+        try {
+            Path tmp = Files.createTempFile(dir, fileId + "-", TMP_SUFFIX);
+            return new Writer(fileId, expectedSize, tmp);
+        } catch (IOException e) {
+            log.warn("local file cache write open failed: fileId={}, {}", fileId, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 항목 제거
+     */
+    public void evict(Long fileId) {
+        List<Path> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            Entry e = entries.remove(fileId);
+            if (e != null) {
+                totalBytes -= e.size;
+                retire(e, removed);
+            }
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(LocalFileCache::deleteQuietly);
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits.get(), misses.get(), evictions.get(),
+                    entries.size(), totalBytes, maxBytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 인덱스 등록 + 용량 초과분 제거 (파일 삭제는 lock 밖에서)
+     */
+    private void put(Long fileId, Path path, long size) {
+        List<Path> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            Entry prev = entries.put(fileId, new Entry(fileId, path, size));
+            if (prev != null) {
+                totalBytes -= prev.size;
+                retire(prev, removed);
+            }
+            totalBytes += size;
+
+            Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<Long, Entry> oldest = it.next();
+                if (oldest.getKey().equals(fileId)) {
+                    continue;
+                }
+                it.remove();
+                totalBytes -= oldest.getValue().size;
+                retire(oldest.getValue(), removed);
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(LocalFileCache::deleteQuietly);
+    }
+
+    /**
+     * 인덱스에서 빠진 항목 처리 (lock 안에서 호출)
+     *
+     * - 전송 중이면 삭제를 마지막 Lease 반환 시점으로 미룬다.
+     * - 같은 경로를 현재 항목이 쓰고 있으면 삭제하지 않는다. (같은 파일 재등록)
+     */
+    private void retire(Entry e, List<Path> removed) {
+        if (e.refs > 0) {
+            e.evicted = true;
+        } else if (!inUse(e.path, e.fileId)) {
+            removed.add(e.path);
+        }
+    }
+
+    private boolean inUse(Path path, Long fileId) {
+        Entry current = entries.get(fileId);
+        return current != null && current.path.equals(path);
+    }
+
+    private void release(Entry e) {
+        boolean delete;
+        lock.lock();
+        try {
+            e.refs--;
+            delete = e.refs == 0 && e.evicted && !inUse(e.path, e.fileId);
+        } finally {
+            lock.unlock();
+        }
+        if (delete) {
+            deleteQuietly(e.path);
+        }
+    }
+
+    private static long lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path p) {
+        try {
+            Files.deleteIfExists(p);
+        } catch (IOException ignored) {
+            // 다음 기동 시 정리
+        }
+    }
+
+    /**
+     * 캐시 파일 사용권 (반환 전까지 파일이 삭제되지 않음, 반환은 1회만 적용)
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Entry entry;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public Path path() {
+            return entry.path;
+        }
+
+        public long size() {
+            return entry.size;
+        }
+
+        /**
+         * 일정 시간 후 반환 (전송 완료를 알 수 없는 sendfile용)
+         */
+        public void closeAfter(Duration delay) {
+            CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS).execute(this::close);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(entry);
+            }
+        }
+    }
+
+    /**
+     * 캐시 기록기 (임시 파일에 기록 후 완료 시 원자적으로 등록)
+     */
+    public final class Writer implements AutoCloseable {
+
+        private final Long fileId;
+        private final long expectedSize;
+        private final Path tmp;
+        private final OutputStream out;
+        private long written;
+        private boolean failed;
+        private boolean done;
+
+        private Writer(Long fileId, long expectedSize, Path tmp) throws IOException {
+            this.fileId = fileId;
+            this.expectedSize = expectedSize;
+            this.tmp = tmp;
+            this.out = Files.newOutputStream(tmp);
+        }
+
+        /**
+         * 데이터 기록 (캐시 기록 실패는 응답에 영향을 주지 않는다)
+         */
+        public void write(byte[] buf, int off, int len) {
+            if (failed) {
+                return;
+            }
+            try {
+                out.write(buf, off, len);
+                written += len;
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        /**
+         * 기록 완료 → 캐시 등록 (크기 불일치 시 폐기)
+         */
+        public void commit() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                out.close();
+                if (failed || written != expectedSize) {
+                    deleteQuietly(tmp);
+                    return;
+                }
+                Path target = dir.resolve(fileId + SUFFIX);
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                put(fileId, target, written);
+            } catch (IOException e) {
+                deleteQuietly(tmp);
+            }
+        }
+
+        /**
+         * 기록 폐기 (commit 이후에는 무시)
+         */
+        @Override
+        public void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 폐기 대상
+            }
+            deleteQuietly(tmp);
+        }
+    }
+}
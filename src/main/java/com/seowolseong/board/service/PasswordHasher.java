@@ -0,0 +1,214 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.error.ApiException;
+import com.seowolseong.board.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ *
+ * - BCrypt 연산을 CPU 코어 수만큼의 전용 스레드에서만 실행한다.
+ * - 대기열이 가득 차면 즉시 SERVER_BUSY(503)로 실패한다. (요청 스레드 고갈 방지)
+ * - 대기열 길이 / 처리 시간 통계를 제공한다.
+ * - board.password.hasher{op}: 대기 포함 호출 시간 (재해시의 encode도 포함되도록 직접 기록)
+ * - 검증 성공 후 강도가 낮은 해시는 현재 강도로 다시 해시한다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final Duration waitTimeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    // 통계
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHasher(
+            PasswordEncoder encoder,
+            @Value("${app.password.threads:0}") int threads,
+            @Value("${app.password.queue-capacity:32}") int queueCapacity,
+            @Value("${app.password.wait-timeout:5s}") Duration waitTimeout,
+            MeterRegistry registry
+    ) {
+        int n = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.encoder = encoder;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeout = waitTimeout;
+        this.encodeTimer = timer(registry, "encode");
+        this.matchesTimer = timer(registry, "matches");
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                n,
+                n,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     */
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (해시가 없으면 false)
+     */
+    public boolean matches(String rawPassword, String hash) {
+        if (rawPassword == null || hash == null || hash.isBlank()) {
+            return false;
+        }
+        return run(matchesTimer, () -> encoder.matches(rawPassword, hash));
+    }
+
+    /**
+     * 해시 재생성 (검증 성공 후 호출, 강도가 낮은 해시만)
+     *
+     * - save: 새 해시 저장 (저장 성공 시 true)
+     * - 재생성/저장 실패는 무시하고 기존 해시를 그대로 사용한다.
+     *
+     * @return 저장된 최신 해시
+     */
+    public String rehashIfNeeded(String rawPassword, String hash, Predicate<String> save) {
+        if (!encoder.upgradeEncoding(hash)) {
+            return hash;
+        }
+        try {
+            String upgraded = encode(rawPassword);
+            return save.test(upgraded) ? upgraded : hash;
+        } catch (RuntimeException e) {
+            log.warn("password rehash skipped: {}", e.toString());
+            return hash;
+        }
+    }
+
+    /**
+     * 전용 스레드에서 실행 후 결과 대기 (거절 / 시간 초과 포함 기록)
+     */
+    private <T> T run(Timer timer, Supplier<T> task) {
+        long t0 = System.nanoTime();
+        try {
+            return submitAndWait(task);
+        } finally {
+            timer.record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T submitAndWait(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long t0 = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    long elapsed = System.nanoTime() - t0;
+                    completed.incrementAndGet();
+                    totalNanos.addAndGet(elapsed);
+                    maxNanos.accumulate(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new ApiException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String op) {
+        return Timer.builder("board.password.hasher")
+                .description("비밀번호 해시 / 검증 시간 (대기 포함)")
+                .tag("op", op)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * 실행기 통계
+     */
+    public Stats stats() {
+        long done = completed.get();
+        return new Stats(
+                executor.getMaximumPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                done,
+                rejected.get(),
+                (done == 0) ? 0 : totalNanos.get() / done / 1_000_000.0,
+                maxNanos.get() / 1_000_000.0
+        );
+    }
+
+    public record Stats(
+            int threads,
+            int active,
+            int queued,
+            int queueCapacity,
+            long completed,
+            long rejected,
+            double avgMillis,
+            double maxMillis
+    ) {}
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
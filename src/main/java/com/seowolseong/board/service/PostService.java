@@ -1,34 +1,80 @@
 package com.seowolseong.board.service;
 
+import com.seowolseong.board.cache.PostCacheInvalidator;
+import com.seowolseong.board.cache.PostDetailCache;
 import com.seowolseong.board.domain.FileStatus;
 import com.seowolseong.board.domain.Post;
 import com.seowolseong.board.dto.PostDto;
 import com.seowolseong.board.error.ApiException;
 import com.seowolseong.board.error.ErrorCode;
 import com.seowolseong.board.repository.PostFileRepository;
+import com.seowolseong.board.repository.PostListRow;
 import com.seowolseong.board.repository.PostRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.seowolseong.board.search.InvertedIndex;
+import com.seowolseong.board.search.PostSearchIndex;
+import com.seowolseong.board.service.model.EditToken;
+import com.seowolseong.board.service.model.PostCursor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Timed(value = "board.service", histogram = true)
 @Service
 public class PostService {
 
     private final PostRepository postRepository;
     private final PostFileRepository postFileRepository;
     private final FileService fileService;
+    private final PostCacheInvalidator cacheInvalidator;
+    private final PostDetailCache detailCache;
+    private final PasswordHasher passwordHasher;
+    private final EditTokenService editTokenService;
+    private final StorageDeleteOutboxService storageDeleteOutbox;
+    private final PostSearchIndex searchIndex;
 
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    // 일괄 삭제/복구 최대 건수
+    private static final int MAX_BULK_IDS = 1000;
+
+    // 검색어 최대 길이 / 검색 결과 최대 조회 위치
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_SEARCH_OFFSET = 10_000;
+
+    // 목록 페이지 크기 (기본/최대)
+    @Value("${app.posts.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.posts.max-page-size:100}")
+    private int maxPageSize;
 
     public PostService(PostRepository postRepository,
                        PostFileRepository postFileRepository,
-                       FileService fileService) {
+                       FileService fileService,
+                       PostCacheInvalidator cacheInvalidator,
+                       PostDetailCache detailCache,
+                       PasswordHasher passwordHasher,
+                       EditTokenService editTokenService,
+                       StorageDeleteOutboxService storageDeleteOutbox,
+                       PostSearchIndex searchIndex) {
         this.postRepository = postRepository;
         this.postFileRepository = postFileRepository;
         this.fileService = fileService;
+        this.cacheInvalidator = cacheInvalidator;
+        this.detailCache = detailCache;
+        this.passwordHasher = passwordHasher;
+        this.editTokenService = editTokenService;
+        this.storageDeleteOutbox = storageDeleteOutbox;
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -50,52 +96,88 @@ public class PostService {
         Post post = new Post();
         post.setTitle(title.trim());
         post.setContent(content);
-        post.setPasswordHash(encoder.encode(postPassword));
+        post.setPasswordHash(passwordHasher.encode(postPassword));
 
         Post saved = postRepository.save(post);
+        cacheInvalidator.postChanged(saved.getId());
+        searchIndex.indexAfterCommit(saved.getId(), saved.getTitle(), saved.getContent());
         return saved.getId();
     }
 
     /**
-     * 게시글 목록 조회 (일반 사용자)
+     * 게시글 목록 조회 (일반 사용자, keyset 페이지)
      */
     @Transactional(readOnly = true)
-    public List<PostDto> listVisible() {
-        return postRepository
-                .findTop50ByDeletedAtIsNullOrderByCreatedAtDescIdDesc()
-                .stream()
-                .map(p -> new PostDto(
-                        p.getId(),
-                        p.getTitle(),
-                        null,
-                        p.getCreatedAt(),
-                        null,
-                        p.getDeletedAt(),
-                        postFileRepository.existsByPostIdAndDeletedAtIsNull(p.getId()),
-                        null
-                ))
-                .toList();
+    public PostDto.PostPage listVisible(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PostListRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.findVisibleRows(limit);
+        } else {
+            PostCursor c = PostCursor.decode(cursor);
+            rows = postRepository.findVisibleRowsBefore(c.createdAt(), c.id(), limit);
+        }
+        return toPage(rows, pageSize);
     }
 
     /**
-     * 게시글 목록 조회 (관리자)
+     * 게시글 목록 조회 (관리자, keyset 페이지)
      */
     @Transactional(readOnly = true)
-    public List<PostDto> listAllForAdmin() {
-        return postRepository
-                .findTop50ByOrderByCreatedAtDescIdDesc()
-                .stream()
-                .map(p -> new PostDto(
-                        p.getId(),
-                        p.getTitle(),
-                        null,
-                        p.getCreatedAt(),
-                        null,
-                        p.getDeletedAt(),
-                        postFileRepository.existsByPostIdAndDeletedAtIsNull(p.getId()),
-                        null
-                ))
+    public PostDto.PostPage listAllForAdmin(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PostListRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.findAllRows(limit);
+        } else {
+            PostCursor c = PostCursor.decode(cursor);
+            rows = postRepository.findAllRowsBefore(c.createdAt(), c.id(), limit);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * 게시글 검색 (일반 사용자, 점수순 페이지)
+     *
+     * - 순위/건수는 검색 색인에서 계산하고, 해당 페이지 게시글만 id로 조회한다.
+     * - 색인 반영 직후 삭제된 게시글은 결과에서 빠질 수 있다. (total은 색인 기준)
+     */
+    @Transactional(readOnly = true)
+    public PostDto.PostSearchPage search(String q, Integer page, Integer size) {
+        if (q == null || q.isBlank()) {
+            throw new ApiException(ErrorCode.REQUIRED_FIELD_MISSING, "검색어를 입력하세요.");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new ApiException(ErrorCode.INVALID_INPUT, "검색어는 최대 " + MAX_QUERY_LENGTH + "자까지 입력할 수 있습니다.");
+        }
+        int pageNo = (page == null) ? 0 : page;
+        if (pageNo < 0) {
+            throw new ApiException(ErrorCode.INVALID_INPUT, "page는 0 이상이어야 합니다.");
+        }
+        int pageSize = resolvePageSize(size);
+        if ((long) pageNo * pageSize > MAX_SEARCH_OFFSET) {
+            throw new ApiException(ErrorCode.INVALID_INPUT, "검색 결과는 " + MAX_SEARCH_OFFSET + "건까지 조회할 수 있습니다.");
+        }
+
+        InvertedIndex.Result result = searchIndex.search(q, pageNo * pageSize, pageSize);
+        if (result.hits().isEmpty()) {
+            return new PostDto.PostSearchPage(List.of(), result.total(), pageNo, pageSize);
+        }
+
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::postId).toList();
+        Map<Long, PostListRow> rows = postRepository.findVisibleRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostListRow::id, Function.identity()));
+
+        List<PostDto> items = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(PostService::toSummaryDto)
                 .toList();
+        return new PostDto.PostSearchPage(items, result.total(), pageNo, pageSize);
     }
 
     /**
@@ -131,14 +213,38 @@ public class PostService {
     /**
      * 게시글 상세 조회 (관리자)
      */
-    @Transactional(readOnly = true)
     public PostDto detail(Long id, boolean admin) {
-        Post p = postRepository.findById(id)
-                .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
+        return detailCached(id, admin).dto();
+    }
+
+    /**
+     * 게시글 상세 조회 (캐시 + ETag)
+     *
+     * - 캐시 적중 시 DB를 조회하지 않는다.
+     * - 삭제된 게시글은 관리자만 조회 가능
+     */
+    public PostDetailCache.Entry detailCached(Long id, boolean admin) {
+        PostDetailCache.Entry e = detailCache.get(id, () -> loadDetail(id));
 
-        if (!admin && p.getDeletedAt() != null) {
+        if (!admin && e.dto().deletedAt() != null) {
             throw new ApiException(ErrorCode.POST_NOT_FOUND);
         }
+        return e;
+    }
+
+    /**
+     * 상세 캐시 통계
+     */
+    public PostDetailCache.Stats detailCacheStats() {
+        return detailCache.stats();
+    }
+
+    /**
+     * 게시글 상세 로딩 (DB)
+     */
+    private PostDto loadDetail(Long id) {
+        Post p = postRepository.findById(id)
+                .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
 
         var files = postFileRepository
                 .findByPostIdAndStatusAndDeletedAtIsNull(id, FileStatus.READY)
@@ -164,32 +270,31 @@ public class PostService {
     }
 
     /**
-     * 게시글 삭제 (비밀번호 필요)
+     * 게시글 삭제 (비밀번호 또는 편집 토큰 필요)
      */
     @Transactional
-    public void deletePost(Long id, String postPassword) {
+    public void deletePost(Long id, String postPassword, String editToken) {
         Post p = findVisiblePostOrThrow(id);
-        verifyPasswordOrThrow(p, postPassword);
+        editTokenService.authorizeOrThrow(p, postPassword, editToken);
 
         p.setDeletedAt(OffsetDateTime.now());
+        cacheInvalidator.postChanged(id);
+        searchIndex.removeAfterCommit(List.of(id));
     }
 
     /**
-     * 게시글 삭제/복구 (관리자)
+     * 게시글 삭제/복구 (관리자, 첨부파일 포함)
      */
     @Transactional
     public PostDto setDeleted(Long id, boolean deleted) {
+        if (!postRepository.existsById(id)) {
+            throw new ApiException(ErrorCode.POST_NOT_FOUND);
+        }
+        setDeletedBulk(List.of(id), deleted);
+
         Post p = postRepository.findById(id)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
 
-        if (deleted) {
-            if (p.getDeletedAt() == null) {
-                p.setDeletedAt(OffsetDateTime.now());
-            }
-        } else {
-            p.setDeletedAt(null);
-        }
-
         return new PostDto(
                 p.getId(),
                 p.getTitle(),
@@ -203,12 +308,57 @@ public class PostService {
     }
 
     /**
-     * 게시글 수정
+     * 게시글 일괄 삭제/복구 (관리자, 첨부파일 포함)
+     *
+     * - 게시글 / 첨부파일 / S3 삭제 예약을 각각 한 번의 문장으로 처리한다.
+     * - 첨부파일은 게시글과 같은 deletedAt으로 삭제하고 status는 유지한다. (복구 시 구분)
+     * - 첨부 S3 객체는 유예 기간(app.posts.purge-grace) 후 삭제하며, 그 전에 복구하면 예약을 취소한다.
+     *
+     * @return 상태가 바뀐 게시글 수
+     */
+    @Transactional
+    public int setDeletedBulk(Collection<Long> ids, boolean deleted) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ApiException(ErrorCode.REQUIRED_FIELD_MISSING, "ids가 필요합니다.");
+        }
+        List<Long> postIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (postIds.isEmpty()) {
+            throw new ApiException(ErrorCode.REQUIRED_FIELD_MISSING, "ids가 필요합니다.");
+        }
+        if (postIds.size() > MAX_BULK_IDS) {
+            throw new ApiException(ErrorCode.INVALID_INPUT, "한 번에 최대 " + MAX_BULK_IDS + "건까지 처리할 수 있습니다.");
+        }
+
+        // DB 저장 정밀도(마이크로초)와 맞춰 게시글/파일 deletedAt을 동일 값으로 기록
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        int affected;
+        if (deleted) {
+            affected = postRepository.softDeleteByIdIn(postIds, now);
+            postFileRepository.cascadeSoftDeleteByPostIdIn(postIds, now);
+            storageDeleteOutbox.enqueueForDeletedPosts(postIds, now);
+            searchIndex.removeAfterCommit(postIds);
+        } else {
+            storageDeleteOutbox.lockForRestore(postIds);
+            postFileRepository.cascadeRestoreByPostIdIn(postIds, now);
+            storageDeleteOutbox.cancelForRestoredPosts(postIds);
+            affected = postRepository.restoreByIdIn(postIds, now);
+            if (affected > 0) {
+                searchIndex.indexAfterCommit(postRepository.findSearchRowsByIdIn(postIds));
+            }
+        }
+
+        cacheInvalidator.postsChanged(postIds);
+        return affected;
+    }
+
+    /**
+     * 게시글 수정 (비밀번호 또는 편집 토큰 필요)
      */
     @Transactional
-    public void updatePost(Long id, String title, String content, String postPassword) {
+    public void updatePost(Long id, String title, String content, String postPassword, String editToken) {
         Post p = findVisiblePostOrThrow(id);
-        verifyPasswordOrThrow(p, postPassword);
+        editTokenService.authorizeOrThrow(p, postPassword, editToken);
 
         if (title == null || title.isBlank()) {
             throw new ApiException(ErrorCode.POST_TITLE_REQUIRED);
@@ -219,15 +369,18 @@ public class PostService {
 
         p.setTitle(title.trim());
         p.setContent(content);
+        cacheInvalidator.postChanged(id);
+        searchIndex.indexAfterCommit(id, p.getTitle(), p.getContent());
     }
 
     /**
-     * 게시글 비밀번호 검증
+     * 게시글 비밀번호 검증 → 편집 토큰 발급 (필요 시 비밀번호 재해시)
      */
-    @Transactional(readOnly = true)
-    public void verifyPasswordOrThrow(Long id, String postPassword) {
+    @Transactional
+    public EditToken verifyPasswordOrThrow(Long id, String postPassword) {
         Post p = findVisiblePostOrThrow(id);
-        verifyPasswordOrThrow(p, postPassword);
+        editTokenService.authorizeOrThrow(p, postPassword, null);
+        return editTokenService.issue(p);
     }
 
     /**
@@ -244,14 +397,50 @@ public class PostService {
     }
 
     /**
-     * 게시글 비밀번호 검증
+     * 페이지 크기 결정 (미지정 시 기본값, 최대값 제한)
      */
-    private void verifyPasswordOrThrow(Post p, String postPassword) {
-        if (postPassword == null || postPassword.isBlank()) {
-            throw new ApiException(ErrorCode.POST_PASSWORD_REQUIRED);
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new ApiException(ErrorCode.INVALID_INPUT, "size는 1 이상이어야 합니다.");
         }
-        if (!encoder.matches(postPassword, p.getPasswordHash())) {
-            throw new ApiException(ErrorCode.POST_PASSWORD_MISMATCH);
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 조회 결과(pageSize + 1건) → 페이지 변환
+     */
+    private static PostDto.PostPage toPage(List<PostListRow> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<PostListRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostListRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PostCursor(last.createdAt(), last.id()).encode();
         }
+
+        List<PostDto> items = pageRows.stream()
+                .map(PostService::toSummaryDto)
+                .toList();
+        return new PostDto.PostPage(items, nextCursor);
+    }
+
+    /**
+     * 목록 프로젝션 → 목록 DTO 변환 (본문/파일 목록 제외)
+     */
+    public static PostDto toSummaryDto(PostListRow r) {
+        return new PostDto(
+                r.id(),
+                r.title(),
+                null,
+                r.createdAt(),
+                null,
+                r.deletedAt(),
+                r.hasFiles(),
+                null
+        );
     }
 }
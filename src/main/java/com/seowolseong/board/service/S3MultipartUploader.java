@@ -0,0 +1,162 @@
+package com.seowolseong.board.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * S3 멀티파트 업로드 (파트 병렬 전송)
+ *
+ * - 입력 스트림에서 파트 단위로 읽어 바로 전송한다. (임시 파일 없음)
+ * - 동시에 전송 중인 파트 수를 제한해 메모리 사용량을 (동시 파트 수 × 파트 크기)로 묶는다.
+ * - 실패 시 멀티파트 업로드를 abort 한다.
+ * - 파트 전송은 S3AsyncClient로 수행한다. (파트 전송용 스레드 풀 없음)
+ */
+@Component
+public class S3MultipartUploader {
+
+    // S3 최소 파트 크기 (마지막 파트 제외)
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3AsyncClient s3Client;
+    private final String bucket;
+    private final int partSize;
+    private final int concurrency;
+
+    public S3MultipartUploader(
+            S3AsyncClient s3Client,
+            @Value("${app.s3.bucket}") String bucket,
+            @Value("${app.s3.multipart.part-size:8388608}") int partSize,
+            @Value("${app.s3.multipart.concurrency:4}") int concurrency
+    ) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.concurrency = Math.max(concurrency, 1);
+    }
+
+    /**
+     * 멀티파트 업로드 실행
+     */
+    public void upload(String key, String contentType, InputStream in) throws IOException {
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).join().uploadId();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        try {
+            int partNumber = 1;
+            while (true) {
+                byte[] buf = readPart(in, inFlight);
+                if (buf.length == 0 && partNumber > 1) {
+                    inFlight.release();
+                    break;
+                }
+
+                int number = partNumber++;
+                CompletableFuture<CompletedPart> f = uploadPart(key, uploadId, number, buf)
+                        .whenComplete((r, e) -> inFlight.release());
+                parts.add(f);
+
+                // 실패한 파트가 있으면 더 읽지 않고 중단
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    break;
+                }
+                if (buf.length < partSize) {
+                    break;
+                }
+            }
+
+            List<CompletedPart> completed = new ArrayList<>();
+            for (CompletableFuture<CompletedPart> f : parts) {
+                completed.add(f.join());
+            }
+            completed.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .build()).join();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, parts);
+            throw new IOException("multipart upload interrupted", e);
+        } catch (CompletionException e) {
+            abort(key, uploadId, parts);
+            throw (e.getCause() instanceof RuntimeException re) ? re : e;
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 파트 읽기 (전송 슬롯 확보 후)
+     */
+    private byte[] readPart(InputStream in, Semaphore inFlight) throws IOException, InterruptedException {
+        inFlight.acquire();
+        try {
+            return in.readNBytes(partSize);
+        } catch (IOException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] data) {
+        try {
+            return s3Client.uploadPart(UploadPartRequest.builder()
+                                    .bucket(bucket)
+                                    .key(key)
+                                    .uploadId(uploadId)
+                                    .partNumber(partNumber)
+                                    .contentLength((long) data.length)
+                                    .build(),
+                            AsyncRequestBody.fromBytes(data))
+                    .thenApply(res -> CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(res.eTag())
+                            .build());
+
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 업로드 중단 (진행 중 파트 완료 대기 후 abort)
+     */
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        for (CompletableFuture<CompletedPart> f : parts) {
+            f.exceptionally(e -> null).join();
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build()).join();
+        } catch (RuntimeException ignored) {
+            // abort 실패는 버킷 lifecycle 규칙으로 정리
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.domain.StorageDeleteOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 저장소 삭제 대기(outbox) 처리기
+ *
+ * - 주기적으로 대기 행을 점유해 S3 DeleteObjects(최대 1000개)로 한 번에 삭제한다.
+ * - 키별 실패 / 호출 실패는 backoff 후 재시도한다.
+ * - 여러 노드가 동시에 실행해도 FOR UPDATE SKIP LOCKED + lease로 중복 처리하지 않는다.
+ */
+@Component
+public class StorageDeleteDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageDeleteDispatcher.class);
+
+    // S3 DeleteObjects 최대 키 수
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final StorageDeleteOutboxService outbox;
+    private final S3Client s3Client;
+
+    @Value("${app.s3.bucket}")
+    private String bucket;
+
+    @Value("${app.storage-delete.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.storage-delete.batch-size:1000}")
+    private int batchSize;
+
+    // 점유 유지 시간 (처리 중 장애 시 이후 재처리)
+    @Value("${app.storage-delete.lease:2m}")
+    private Duration lease;
+
+    public StorageDeleteDispatcher(StorageDeleteOutboxService outbox, S3Client s3Client) {
+        this.outbox = outbox;
+        this.s3Client = s3Client;
+    }
+
+    /**
+     * 대기 행 처리 (남은 대상이 없을 때까지 배치 반복)
+     */
+    @Scheduled(fixedDelayString = "${app.storage-delete.interval:5s}", initialDelayString = "${app.storage-delete.interval:5s}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        int limit = Math.min(Math.max(batchSize, 1), MAX_KEYS_PER_REQUEST);
+
+        while (true) {
+            List<StorageDeleteOutbox> claimed = outbox.claim(limit, lease);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            deleteBatch(claimed);
+            if (claimed.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * DeleteObjects 1회 호출 + 결과 반영
+     */
+    void deleteBatch(List<StorageDeleteOutbox> claimed) {
+
+        // 같은 키가 여러 번 예약될 수 있음
+        Map<String, List<Long>> idsByKey = new LinkedHashMap<>();
+        for (StorageDeleteOutbox o : claimed) {
+            idsByKey.computeIfAbsent(o.getStoredKey(), k -> new ArrayList<>()).add(o.getId());
+        }
+
+        List<ObjectIdentifier> objects = idsByKey.keySet().stream()
+                .map(k -> ObjectIdentifier.builder().key(k).build())
+                .toList();
+
+        DeleteObjectsResponse res;
+        try {
+            res = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+
+        } catch (RuntimeException e) {
+            log.warn("storage delete batch failed: keys={} error={}", objects.size(), e.toString());
+            Map<Long, String> failures = new HashMap<>();
+            for (StorageDeleteOutbox o : claimed) {
+                failures.put(o.getId(), e.toString());
+            }
+            outbox.retry(failures);
+            return;
+        }
+
+        // quiet 모드: 실패한 키만 응답에 포함
+        Map<Long, String> failures = new HashMap<>();
+        for (S3Error err : res.errors()) {
+            for (Long id : idsByKey.getOrDefault(err.key(), List.of())) {
+                failures.put(id, err.code() + ": " + err.message());
+            }
+        }
+
+        List<Long> done = new ArrayList<>();
+        for (StorageDeleteOutbox o : claimed) {
+            if (!failures.containsKey(o.getId())) {
+                done.add(o.getId());
+            }
+        }
+
+        outbox.complete(done);
+        if (!failures.isEmpty()) {
+            log.warn("storage delete partial failure: failed={} deleted={}", failures.size(), done.size());
+            outbox.retry(failures);
+        }
+    }
+}
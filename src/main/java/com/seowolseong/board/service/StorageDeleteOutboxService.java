@@ -0,0 +1,124 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.domain.StorageDeleteOutbox;
+import com.seowolseong.board.repository.StorageDeleteOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장소 삭제 대기(outbox) 관리
+ *
+ * - enqueue는 호출한 트랜잭션에 참여한다. (DB 변경과 함께 커밋/롤백)
+ * - 실패 시 지수 backoff로 다음 시도를 예약한다.
+ */
+@Service
+public class StorageDeleteOutboxService {
+
+    private final StorageDeleteOutboxRepository repo;
+
+    // 재시도 간격 (시작 / 최대)
+    @Value("${app.storage-delete.backoff-base:10s}")
+    private Duration backoffBase;
+
+    @Value("${app.storage-delete.backoff-max:30m}")
+    private Duration backoffMax;
+
+    // 게시글 일괄 삭제 후 첨부 S3 객체 삭제까지 유예 기간 (그 전에 복구 가능)
+    @Value("${app.posts.purge-grace:7d}")
+    private Duration purgeGrace;
+
+    public StorageDeleteOutboxService(StorageDeleteOutboxRepository repo) {
+        this.repo = repo;
+    }
+
+    /**
+     * S3 삭제 예약
+     */
+    @Transactional
+    public void enqueue(Long fileId, Long postId, String storedKey) {
+        if (storedKey == null || storedKey.isBlank()) {
+            return;
+        }
+        repo.save(new StorageDeleteOutbox(fileId, postId, storedKey, OffsetDateTime.now()));
+    }
+
+    /**
+     * 게시글 일괄 삭제에 따른 첨부 S3 삭제 예약 (유예 기간 후 처리)
+     */
+    @Transactional
+    public int enqueueForDeletedPosts(Collection<Long> postIds, OffsetDateTime deletedAt) {
+        return repo.enqueueCascadeByPostIdIn(postIds, deletedAt, deletedAt.plus(purgeGrace));
+    }
+
+    /**
+     * 게시글 복구 전 첨부 S3 삭제 예약 잠금
+     *
+     * - 복구 여부 판단(점유 확인) ~ 예약 취소 사이에 처리기가 점유해 S3에서 삭제하는 경우를 막는다.
+     */
+    @Transactional
+    public void lockForRestore(Collection<Long> postIds) {
+        repo.lockByPostIdIn(postIds);
+    }
+
+    /**
+     * 게시글 복구에 따른 첨부 S3 삭제 예약 취소
+     */
+    @Transactional
+    public int cancelForRestoredPosts(Collection<Long> postIds) {
+        return repo.cancelByRestoredPostIdIn(postIds);
+    }
+
+    /**
+     * 처리 대상 점유 (lease 동안 다른 노드가 가져가지 않음)
+     */
+    @Transactional
+    public List<StorageDeleteOutbox> claim(int limit, Duration lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<StorageDeleteOutbox> due = repo.findDueForUpdate(now, limit);
+        for (StorageDeleteOutbox o : due) {
+            o.lease(now.plus(lease));
+        }
+        return due;
+    }
+
+    /**
+     * 처리 완료
+     */
+    @Transactional
+    public void complete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            repo.deleteByIdIn(ids);
+        }
+    }
+
+    /**
+     * 처리 실패 (id → 실패 사유), 다음 시도 예약
+     */
+    @Transactional
+    public void retry(Map<Long, String> failures) {
+        OffsetDateTime now = OffsetDateTime.now();
+        for (StorageDeleteOutbox o : repo.findAllById(failures.keySet())) {
+            String error = failures.get(o.getId());
+            if (error != null && error.length() > 500) {
+                error = error.substring(0, 500);
+            }
+            o.retryAt(now.plus(backoff(o.getAttempts() + 1)), error);
+        }
+    }
+
+    /**
+     * 재시도 간격 (base × 2^(시도-1), 최대값 제한)
+     */
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        Duration d = backoffBase.multipliedBy(1L << shift);
+        return (d.compareTo(backoffMax) > 0) ? backoffMax : d;
+    }
+}
@@ -0,0 +1,83 @@
+package com.seowolseong.board.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 파일 업로드 전용 실행기 (크기 제한)
+ *
+ * - 요청 내 여러 파일의 S3 업로드를 동시에 처리한다.
+ * - 대기열이 가득 차면 호출 스레드에서 직접 실행한다. (backpressure)
+ * - 가상 스레드 모드에서는 작업마다 가상 스레드를 만들고, 동시 실행 수만 세마포어로 제한한다.
+ */
+@Component
+public class UploadExecutor {
+
+    private final ExecutorService executor;
+
+    // 가상 스레드 모드에서만 사용 (동시 실행 제한)
+    private final Semaphore permits;
+
+    public UploadExecutor(
+            @Value("${app.upload.parallelism:4}") int parallelism,
+            @Value("${app.upload.queue-capacity:64}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("file-upload-", 1).factory());
+            this.permits = new Semaphore(parallelism);
+            return;
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "file-upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+        this.permits = null;
+    }
+
+    /**
+     * 작업 비동기 실행
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        if (permits == null) {
+            return CompletableFuture.supplyAsync(task, executor);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package com.seowolseong.board.service.model;
+
+import java.time.Instant;
+
+/**
+ * 게시글 편집 토큰 (비밀번호 검증 후 발급)
+ */
+public record EditToken(
+        String token,
+        Instant expiresAt
+) {}
@@ -0,0 +1,18 @@
+package com.seowolseong.board.service.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 파일 다운로드 메타데이터 (S3 스트림을 열기 전 단계)
+ *
+ * - S3 키는 내용이 바뀌지 않으므로 파일 ID 기준 ETag를 사용한다.
+ */
+public record FileDownloadMeta(
+        Long id,
+        String storedKey,
+        String originalName,
+        String contentType,
+        Long sizeBytes,
+        String etag,
+        OffsetDateTime lastModified
+) {}
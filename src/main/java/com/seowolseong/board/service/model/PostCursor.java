@@ -0,0 +1,65 @@
+package com.seowolseong.board.service.model;
+
+import com.seowolseong.board.error.ApiException;
+import com.seowolseong.board.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (createdAt, id)
+ *
+ * - 목록 정렬(createdAt desc, id desc)과 동일한 키를 사용한다.
+ * - 외부에는 base64url 문자열로만 노출한다.
+ */
+public record PostCursor(
+        OffsetDateTime createdAt,
+        Long id
+) {
+
+    // 커서 시각 허용 범위 (DB timestamptz로 바인딩 가능한 범위 안)
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+
+    /**
+     * 커서 문자열 생성 ("{epochMicros}:{id}" → base64url)
+     */
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant());
+        String raw = micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 커서 문자열 해석 (형식 오류 / 범위 초과 시 INVALID_INPUT)
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf(':');
+            if (sep <= 0) {
+                throw new IllegalArgumentException("separator");
+            }
+            long micros = Long.parseLong(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+
+            OffsetDateTime createdAt = Instant.EPOCH
+                    .plus(micros, ChronoUnit.MICROS)
+                    .atOffset(ZoneOffset.UTC);
+            if (createdAt.getYear() < MIN_YEAR || createdAt.getYear() > MAX_YEAR) {
+                throw new IllegalArgumentException("createdAt out of range");
+            }
+            return new PostCursor(createdAt, id);
+
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            // 형식 오류 / 표현 범위를 벗어난 시각
+            throw new ApiException(ErrorCode.INVALID_INPUT, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
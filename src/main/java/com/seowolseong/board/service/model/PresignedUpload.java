@@ -0,0 +1,17 @@
+package com.seowolseong.board.service.model;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * S3 직접 업로드용 presigned URL 발급 결과
+ *
+ * - headers: 업로드 요청 시 그대로 전송해야 하는 서명 헤더
+ */
+public record PresignedUpload(
+        Long fileId,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {}
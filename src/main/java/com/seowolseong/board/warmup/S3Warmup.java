@@ -4,18 +4,21 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Component
 public class S3Warmup {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
 
     @Value("${app.s3.bucket}")
     private String bucket;
 
-    public S3Warmup(S3Client s3Client) {
+    public S3Warmup(S3Client s3Client, S3AsyncClient s3AsyncClient) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
     }
 
     /**
@@ -27,6 +30,7 @@ public class S3Warmup {
 
         try {
             s3Client.headBucket(b -> b.bucket(bucket));
+            s3AsyncClient.headBucket(b -> b.bucket(bucket)).join();
         } catch (Exception e) {
             // 워밍업 실패 시 로그만 남김
         }
@@ -1,13 +0,0 @@
-package com.example.demo;
-
-import com.seowolseong.board.BoardApplication;
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest(classes = BoardApplication.class)
-class MyprojectApplicationTests {
-
-    @Test
-    void contextLoads() {
-    }
-}
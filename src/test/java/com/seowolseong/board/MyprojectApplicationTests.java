@@ -0,0 +1,31 @@
+package com.seowolseong.board;
+
+import com.seowolseong.board.load.LoadTestInfra;
+import com.seowolseong.board.load.LoadTestS3Config;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 애플리케이션 컨텍스트 기동 테스트
+ *
+ * - 외부 DB / Redis / S3 없이 돌도록 부하 테스트와 같은 내장 인프라 + 메모리 S3를 사용한다.
+ */
+@ActiveProfiles("load")
+@Import(LoadTestS3Config.class)
+@SpringBootTest(classes = BoardApplication.class)
+class MyprojectApplicationTests {
+
+    @DynamicPropertySource
+    static void infra(DynamicPropertyRegistry registry) {
+        LoadTestInfra.start();
+        LoadTestInfra.register(registry);
+    }
+
+    @Test
+    void contextLoads() {
+    }
+}
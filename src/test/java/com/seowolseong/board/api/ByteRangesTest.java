@@ -0,0 +1,89 @@
+package com.seowolseong.board.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangesTest {
+
+    private static final String ETAG = "\"f1-abc\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+    private static final long SIZE = 1000;
+
+    @Test
+    void noRangeHeaderMeansFullResponse() {
+        assertThat(resolve(new HttpHeaders())).isNull();
+    }
+
+    @Test
+    void singleAndSuffixRanges() {
+        assertThat(resolve(range("bytes=0-99")))
+                .containsExactly(new ByteRanges.Range(0, 99));
+        assertThat(resolve(range("bytes=-100")))
+                .containsExactly(new ByteRanges.Range(900, 999));
+        assertThat(resolve(range("bytes=950-")))
+                .containsExactly(new ByteRanges.Range(950, 999));
+    }
+
+    @Test
+    void multipleRanges() {
+        assertThat(resolve(range("bytes=0-9,100-109")))
+                .containsExactly(new ByteRanges.Range(0, 9), new ByteRanges.Range(100, 109));
+    }
+
+    @Test
+    void unsatisfiableRangeIsEmpty() {
+        assertThat(resolve(range("bytes=1000-1100"))).isEmpty();
+    }
+
+    @Test
+    void malformedRangeIsIgnored() {
+        assertThat(resolve(range("bytes=abc"))).isNull();
+        assertThat(resolve(range("items=0-1"))).isNull();
+    }
+
+    @Test
+    void overlappingRangesLargerThanFileAreIgnored() {
+        assertThat(resolve(range("bytes=0-999,0-999"))).isNull();
+    }
+
+    @Test
+    void ifRangeWithMatchingEtagAppliesRange() {
+        HttpHeaders h = range("bytes=0-9");
+        h.set(HttpHeaders.IF_RANGE, ETAG);
+        assertThat(resolve(h)).hasSize(1);
+    }
+
+    @Test
+    void ifRangeMismatchOrWeakEtagFallsBackToFull() {
+        HttpHeaders h = range("bytes=0-9");
+        h.set(HttpHeaders.IF_RANGE, "\"other\"");
+        assertThat(resolve(h)).isNull();
+
+        h.set(HttpHeaders.IF_RANGE, "W/" + ETAG);
+        assertThat(resolve(h)).isNull();
+    }
+
+    @Test
+    void ifRangeWithDate() {
+        HttpHeaders h = range("bytes=0-9");
+        h.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED);
+        assertThat(resolve(h)).hasSize(1);
+
+        h.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED - 60_000);
+        assertThat(resolve(h)).isNull();
+    }
+
+    private static HttpHeaders range(String value) {
+        HttpHeaders h = new HttpHeaders();
+        h.set(HttpHeaders.RANGE, value);
+        return h;
+    }
+
+    private static List<ByteRanges.Range> resolve(HttpHeaders h) {
+        return ByteRanges.resolve(h, ETAG, LAST_MODIFIED, SIZE);
+    }
+}
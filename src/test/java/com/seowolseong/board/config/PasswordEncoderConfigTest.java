@@ -0,0 +1,29 @@
+package com.seowolseong.board.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderConfigTest {
+
+    // 강도 10 = 50ms, 1 증가마다 2배
+    private static long simulated(int cost) {
+        return Duration.ofMillis(50).toNanos() << (cost - 10);
+    }
+
+    @Test
+    void picksHighestCostWithinTarget() {
+        assertThat(PasswordEncoderConfig.calibrate(Duration.ofMillis(250), 10, 14, PasswordEncoderConfigTest::simulated))
+                .isEqualTo(12);
+    }
+
+    @Test
+    void clampsToRange() {
+        assertThat(PasswordEncoderConfig.calibrate(Duration.ofMillis(10), 10, 14, PasswordEncoderConfigTest::simulated))
+                .isEqualTo(10);
+        assertThat(PasswordEncoderConfig.calibrate(Duration.ofSeconds(60), 10, 14, PasswordEncoderConfigTest::simulated))
+                .isEqualTo(14);
+    }
+}
@@ -0,0 +1,67 @@
+package com.seowolseong.board.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdFilterTest {
+
+    @Test
+    void generatesHexIdWhenHeaderMissingOrUnsafe() {
+        assertThat(RequestIdFilter.requestId(null)).matches("[0-9a-f]{16}");
+        assertThat(RequestIdFilter.requestId("")).matches("[0-9a-f]{16}");
+        assertThat(RequestIdFilter.requestId("abc\r\nforged")).matches("[0-9a-f]{16}");
+        assertThat(RequestIdFilter.requestId("x".repeat(65))).matches("[0-9a-f]{16}");
+    }
+
+    @Test
+    void keepsSafeIncomingId() {
+        assertThat(RequestIdFilter.requestId("lb-1a2b.c_3")).isEqualTo("lb-1a2b.c_3");
+    }
+
+    @Test
+    void echoesIdInResponseHeader() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/posts");
+        req.addHeader("X-Request-Id", "edge-42");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        new RequestIdFilter().doFilter(req, res, new MockFilterChain());
+
+        assertThat(res.getHeader("X-Request-Id")).isEqualTo("edge-42");
+    }
+
+    @Test
+    void countsBytesWrittenToStreamAndWriter() throws Exception {
+        CountingResponse stream = new CountingResponse(new MockHttpServletResponse());
+        stream.getOutputStream().write(new byte[100], 10, 50);
+        stream.getOutputStream().write(1);
+        assertThat(stream.bytes()).isEqualTo(51);
+
+        MockHttpServletResponse utf8 = new MockHttpServletResponse();
+        utf8.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        CountingResponse writer = new CountingResponse(utf8);
+        writer.getWriter().print("a가😀");
+        assertThat(writer.bytes()).isEqualTo(1 + 3 + 4);
+        assertThat(utf8.getContentAsByteArray()).hasSize(8);
+    }
+
+    @Test
+    void addsSendfileRangeFromRequestAttributes() {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/files/1/download");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        res.setContentLength(1000);
+        assertThat(RequestIdFilter.sendfileBytes(req, res)).isZero();
+
+        req.setAttribute("org.apache.tomcat.sendfile.filename", "/tmp/f");
+        assertThat(RequestIdFilter.sendfileBytes(req, res)).isEqualTo(1000);
+
+        req.setAttribute("org.apache.tomcat.sendfile.start", 100L);
+        req.setAttribute("org.apache.tomcat.sendfile.end", 600L);
+        assertThat(RequestIdFilter.sendfileBytes(req, res)).isEqualTo(500);
+    }
+}
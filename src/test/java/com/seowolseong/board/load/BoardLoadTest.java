@@ -0,0 +1,354 @@
+package com.seowolseong.board.load;
+
+import com.seowolseong.board.BoardApplication;
+import com.seowolseong.board.domain.Post;
+import com.seowolseong.board.repository.PostRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드포인트 부하 테스트 (목록 / 상세 / 비밀번호 검증 / 업로드 / 다운로드 / 파일 삭제)
+ *
+ * - 내장 PostgreSQL / Redis + 메모리 S3로 애플리케이션 전체를 띄우고 실제 HTTP로 호출한다.
+ * - 동시성 단계별로 엔드포인트마다 요청 수 / 오류 / RPS / p50 / p99 를 출력하고 파일로 남긴다.
+ * - 오류율 / p99 상한을 넘으면 실패한다. (회귀 검출용)
+ *
+ * 실행: ./mvnw -Pload test
+ *
+ * 설정 (-D 시스템 속성):
+ * - load.concurrency   동시 요청 수, 쉼표로 여러 단계 (기본 16)
+ * - load.duration      단계별 측정 시간 (기본 20s)
+ * - load.warmup        측정 전 워밍업 시간 (기본 5s)
+ * - load.mix           요청 비율 (기본 list:40,detail:30,verify:5,upload:10,download:10,delete:5)
+ * - load.posts         초기 게시글 수 (기본 200)
+ * - load.seed-files    초기 첨부파일 수 (다운로드 대상, 기본 100)
+ * - load.file-bytes    업로드 파일 크기 (기본 65536)
+ * - load.max-error-rate 허용 오류율 (기본 0.01)
+ * - load.max-p99       엔드포인트별 p99 상한(ms), 예: list:200,detail:100 (기본 없음)
+ * - load.report        결과 파일 (기본 target/load-report.txt)
+ * - spring.threads.virtual.enabled  서버 스레드 모드 (가상 스레드 on/off 비교)
+ */
+@Tag("load")
+@ActiveProfiles("load")
+@Import(LoadTestS3Config.class)
+@SpringBootTest(classes = BoardApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BoardLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardLoadTest.class);
+
+    private static final String PASSWORD = "load-1234";
+    private static final String DEFAULT_MIX = "list:40,detail:30,verify:5,upload:10,download:10,delete:5";
+
+    @DynamicPropertySource
+    static void infra(DynamicPropertyRegistry registry) {
+        LoadTestInfra.start();
+        LoadTestInfra.register(registry);
+    }
+
+    @Autowired
+    private Environment env;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+
+    private HttpClient http;
+    private String baseUrl;
+    private byte[] fileBytes;
+
+    // 게시글 / 다운로드 대상 파일 (초기 데이터, 읽기 전용)
+    private List<Long> postIds;
+    private List<Long> seedFileIds;
+
+    // 부하 중 업로드된 파일 (삭제 대상)
+    private final ConcurrentLinkedQueue<Long> deletable = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        List<Integer> levels = Arrays.stream(env.getProperty("load.concurrency", "16").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        Duration duration = env.getProperty("load.duration", Duration.class, Duration.ofSeconds(20));
+        Duration warmup = env.getProperty("load.warmup", Duration.class, Duration.ofSeconds(5));
+        Map<String, Integer> mix = parseMap(env.getProperty("load.mix", DEFAULT_MIX));
+        double maxErrorRate = env.getProperty("load.max-error-rate", Double.class, 0.01);
+        Map<String, Integer> maxP99 = parseMap(env.getProperty("load.max-p99", ""));
+        Path report = Path.of(env.getProperty("load.report", "target/load-report.txt"));
+
+        baseUrl = "http://localhost:" + env.getRequiredProperty("local.server.port");
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        fileBytes = pdfBytes(env.getProperty("load.file-bytes", Integer.class, 64 * 1024));
+
+        seed(env.getProperty("load.posts", Integer.class, 200),
+                env.getProperty("load.seed-files", Integer.class, 100),
+                levels.getFirst());
+
+        run(levels.getFirst(), warmup, mix);
+
+        StringBuilder out = new StringBuilder();
+        out.append("mode=").append(threadMode())
+                .append(" duration=").append(duration)
+                .append(" mix=").append(mix)
+                .append(System.lineSeparator());
+
+        Map<Integer, List<LoadStats.Row>> results = new LinkedHashMap<>();
+        for (int concurrency : levels) {
+            LoadStats stats = run(concurrency, duration, mix);
+            List<LoadStats.Row> rows = stats.rows(duration);
+            results.put(concurrency, rows);
+
+            out.append(System.lineSeparator())
+                    .append("concurrency=").append(concurrency).append(System.lineSeparator())
+                    .append(LoadStats.Row.header()).append(System.lineSeparator());
+            rows.forEach(r -> out.append(r).append(System.lineSeparator()));
+        }
+
+        log.info("load test result{}{}", System.lineSeparator(), out);
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, out, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        // 회귀 검사
+        results.forEach((concurrency, rows) -> rows.forEach(r -> {
+            assertThat(r.errorRate())
+                    .as("error rate of %s at concurrency=%d", r.op(), concurrency)
+                    .isLessThanOrEqualTo(maxErrorRate);
+            Integer limit = maxP99.get(r.op());
+            if (limit != null) {
+                assertThat(r.p99())
+                        .as("p99(ms) of %s at concurrency=%d", r.op(), concurrency)
+                        .isLessThanOrEqualTo(limit);
+            }
+        }));
+    }
+
+    /**
+     * 초기 데이터: 게시글은 DB에 직접 저장, 첨부파일은 업로드 API로 생성
+     */
+    private void seed(int posts, int files, int concurrency) throws Exception {
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<Post> batch = new ArrayList<>(posts);
+        for (int i = 0; i < posts; i++) {
+            Post p = new Post();
+            p.setTitle("부하 테스트 게시글 " + i);
+            p.setContent("본문 ".repeat(200) + i);
+            p.setPasswordHash(hash);
+            batch.add(p);
+        }
+        postIds = postRepository.saveAll(batch).stream().map(Post::getId).toList();
+
+        List<Long> fileIds = new ArrayList<>(files);
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int i = 0; i < files; i++) {
+                futures.add(pool.submit(this::uploadOne));
+            }
+            for (Future<List<Long>> f : futures) {
+                fileIds.addAll(f.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        seedFileIds = List.copyOf(fileIds);
+        assertThat(seedFileIds).as("seed files").hasSize(files);
+    }
+
+    /**
+     * 동시성 concurrency로 duration 동안 요청 비율(mix)에 따라 호출
+     */
+    private LoadStats run(int concurrency, Duration duration, Map<String, Integer> mix) throws Exception {
+        String[] ops = mix.keySet().toArray(String[]::new);
+        int[] cumulative = new int[ops.length];
+        int sum = 0;
+        for (int i = 0; i < ops.length; i++) {
+            sum += mix.get(ops[i]);
+            cumulative[i] = sum;
+        }
+        int totalWeight = sum;
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<LoadStats>> workers = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(pool.submit(() -> {
+                    LoadStats local = new LoadStats();
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        int pick = rnd.nextInt(totalWeight);
+                        int i = 0;
+                        while (cumulative[i] <= pick) i++;
+                        call(ops[i], local);
+                    }
+                    return local;
+                }));
+            }
+
+            LoadStats merged = new LoadStats();
+            for (Future<LoadStats> f : workers) {
+                merged.merge(f.get());
+            }
+            return merged;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void call(String op, LoadStats stats) {
+        // 삭제할 파일이 없으면 업로드로 대체
+        Long deleteId = null;
+        if (op.equals("delete")) {
+            deleteId = deletable.poll();
+            if (deleteId == null) {
+                op = "upload";
+            }
+        }
+
+        long t0 = System.nanoTime();
+        boolean ok;
+        try {
+            ok = switch (op) {
+                case "list" -> send(get("/api/posts"));
+                case "detail" -> send(get("/api/posts/" + randomOf(postIds)));
+                case "verify" -> send(postJson("/api/posts/" + randomOf(postIds) + "/verify-password",
+                        "{\"postPassword\":\"" + PASSWORD + "\"}"));
+                case "download" -> send(get("/api/files/" + randomOf(seedFileIds) + "/download"));
+                case "upload" -> {
+                    deletable.addAll(uploadOne());
+                    yield true;
+                }
+                case "delete" -> send(postJson("/api/files/" + deleteId + "/delete",
+                        "{\"postPassword\":\"" + PASSWORD + "\"}"));
+                default -> throw new IllegalArgumentException("unknown op: " + op);
+            };
+        } catch (Exception e) {
+            ok = false;
+        }
+        stats.record(op, System.nanoTime() - t0, ok);
+    }
+
+    /**
+     * 파일 1개 업로드 (임의 게시글), 생성된 파일 ID 반환
+     */
+    private List<Long> uploadOne() throws IOException, InterruptedException {
+        String boundary = "----load" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        ByteArrayOutputStream body = new ByteArrayOutputStream(fileBytes.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"load.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(fileBytes);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest req = HttpRequest.newBuilder(URI.create(baseUrl + "/api/files/upload?postId=" + randomOf(postIds)))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+
+        HttpResponse<byte[]> res = http.send(req, HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() != 200) {
+            throw new IllegalStateException("upload failed: status=" + res.statusCode());
+        }
+
+        JsonNode fileIds = json.readTree(res.body()).get("fileIds");
+        List<Long> ids = new ArrayList<>(fileIds.size());
+        for (int i = 0; i < fileIds.size(); i++) {
+            ids.add(fileIds.get(i).asLong());
+        }
+        return ids;
+    }
+
+    private boolean send(HttpRequest req) throws IOException, InterruptedException {
+        HttpResponse<Void> res = http.send(req, HttpResponse.BodyHandlers.discarding());
+        int status = res.statusCode();
+        return (status >= 200 && status < 300) || status == 304;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest postJson(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String threadMode() {
+        return env.getProperty("spring.threads.virtual.enabled", Boolean.class, false) ? "virtual" : "platform";
+    }
+
+    private static <T> T randomOf(List<T> list) {
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+
+    /**
+     * "a:1,b:2" 형식 파싱 (순서 유지)
+     */
+    private static Map<String, Integer> parseMap(String spec) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            String[] kv = part.split(":", 2);
+            map.put(kv[0].trim(), Integer.valueOf(kv[1].trim()));
+        }
+        return map;
+    }
+
+    /**
+     * PDF 헤더로 시작하는 임의 바이트 (크기 지정)
+     */
+    private static byte[] pdfBytes(int size) {
+        byte[] data = new byte[Math.max(size, 16)];
+        ThreadLocalRandom.current().nextBytes(data);
+        byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, data, 0, header.length);
+        return data;
+    }
+}
@@ -0,0 +1,111 @@
+package com.seowolseong.board.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트별 지연 시간 기록
+ *
+ * - 워커 스레드마다 하나씩 사용하고 (동기화 없음) 종료 후 merge 한다.
+ */
+final class LoadStats {
+
+    private final Map<String, Series> series = new TreeMap<>();
+
+    void record(String op, long nanos, boolean ok) {
+        Series s = series.computeIfAbsent(op, k -> new Series());
+        s.add(nanos);
+        if (!ok) {
+            s.errors++;
+        }
+    }
+
+    void merge(LoadStats other) {
+        other.series.forEach((op, s) -> {
+            Series mine = series.computeIfAbsent(op, k -> new Series());
+            for (int i = 0; i < s.size; i++) {
+                mine.add(s.nanos[i]);
+            }
+            mine.errors += s.errors;
+        });
+    }
+
+    /**
+     * 엔드포인트별 요약 (+ 전체 합계 "total")
+     */
+    List<Row> rows(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<Row> rows = new ArrayList<>();
+
+        Series total = new Series();
+        series.forEach((op, s) -> {
+            rows.add(s.summarize(op, seconds));
+            for (int i = 0; i < s.size; i++) {
+                total.add(s.nanos[i]);
+            }
+            total.errors += s.errors;
+        });
+        rows.add(total.summarize("total", seconds));
+        return rows;
+    }
+
+    /**
+     * 요약 한 줄 (지연 시간 단위: ms)
+     */
+    record Row(String op, long count, long errors, double rps, double p50, double p99, double max) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+
+        static String header() {
+            return String.format("%-10s %9s %7s %9s %9s %9s %9s",
+                    "endpoint", "count", "errors", "rps", "p50(ms)", "p99(ms)", "max(ms)");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f",
+                    op, count, errors, rps, p50, p99, max);
+        }
+    }
+
+    private static final class Series {
+        long[] nanos = new long[1024];
+        int size;
+        long errors;
+
+        void add(long n) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = n;
+        }
+
+        Row summarize(String op, double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Row(
+                    op,
+                    size,
+                    errors,
+                    seconds > 0 ? size / seconds : 0,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6
+            );
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(idx, 0)] / 1e6;
+        }
+    }
+}
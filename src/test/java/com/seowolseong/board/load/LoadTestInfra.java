@@ -0,0 +1,63 @@
+package com.seowolseong.board.load;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 부하 테스트 / 컨텍스트 기동 테스트용 내장 인프라 (PostgreSQL / Redis)
+ *
+ * - JVM 당 1회 기동하고 종료 훅에서 정리한다.
+ * - 접속 정보는 DynamicPropertySource로 주입한다.
+ */
+public final class LoadTestInfra {
+
+    private static EmbeddedPostgres postgres;
+    private static RedisServer redis;
+    private static int redisPort;
+
+    private LoadTestInfra() {}
+
+    public static synchronized void start() {
+        if (postgres != null) {
+            return;
+        }
+        try {
+            postgres = EmbeddedPostgres.builder().start();
+
+            redisPort = freePort();
+            redis = new RedisServer(redisPort);
+            redis.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(LoadTestInfra::stop, "load-infra-stop"));
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    private static synchronized void stop() {
+        try {
+            if (redis != null) redis.stop();
+            if (postgres != null) postgres.close();
+        } catch (IOException e) {
+            // 종료 중 정리 실패는 무시
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket s = new ServerSocket(0)) {
+            return s.getLocalPort();
+        }
+    }
+}
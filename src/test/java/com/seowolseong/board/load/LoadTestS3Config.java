@@ -0,0 +1,30 @@
+package com.seowolseong.board.load;
+
+import com.seowolseong.board.support.InMemoryS3AsyncClient;
+import com.seowolseong.board.support.InMemoryS3Client;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+/**
+ * 부하 테스트용 S3 대체 (메모리 저장)
+ *
+ * - AwsS3Config의 클라이언트 대신 주입되도록 @Primary로 등록한다.
+ * - presigner는 네트워크 호출이 없으므로 그대로 사용한다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestS3Config {
+
+    @Bean
+    @Primary
+    InMemoryS3Client inMemoryS3Client() {
+        return new InMemoryS3Client();
+    }
+
+    @Bean
+    @Primary
+    S3AsyncClient inMemoryS3AsyncClient(InMemoryS3Client s3) {
+        return new InMemoryS3AsyncClient(s3);
+    }
+}
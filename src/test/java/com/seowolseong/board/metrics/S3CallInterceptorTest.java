@@ -0,0 +1,84 @@
+package com.seowolseong.board.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3CallInterceptorTest {
+
+    @Test
+    void recordsLatencyFirstByteRetriesAndBytesPerOperation() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        S3CallInterceptor interceptor = new S3CallInterceptor(registry, Duration.ofSeconds(1));
+
+        InterceptorContext ctx = getObjectContext();
+
+        ExecutionAttributes attrs = new ExecutionAttributes();
+        attrs.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetObject");
+
+        interceptor.beforeExecution(ctx, attrs);
+        interceptor.beforeTransmission(ctx, attrs); // 1차 시도
+        interceptor.beforeTransmission(ctx, attrs); // 재시도
+        interceptor.afterTransmission(ctx, attrs);
+        interceptor.afterExecution(ctx, attrs);
+
+        assertThat(registry.get("board.s3.calls")
+                .tags("operation", "GetObject", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("board.s3.first-byte")
+                .tag("operation", "GetObject").timer().count()).isEqualTo(1);
+        assertThat(registry.get("board.s3.retries")
+                .tag("operation", "GetObject").counter().count()).isEqualTo(1);
+        assertThat(registry.get("board.s3.bytes")
+                .tags("operation", "GetObject", "direction", "received").counter().count()).isEqualTo(1024);
+        assertThat(registry.find("board.s3.bytes").tag("direction", "sent").counter()).isNull();
+    }
+
+    @Test
+    void firstByteExcludesFailedAttemptsAndBackoff() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        S3CallInterceptor interceptor = new S3CallInterceptor(registry, Duration.ofSeconds(1));
+        InterceptorContext ctx = getObjectContext();
+
+        ExecutionAttributes attrs = new ExecutionAttributes();
+        attrs.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetObject");
+
+        interceptor.beforeExecution(ctx, attrs);
+        interceptor.beforeTransmission(ctx, attrs); // 1차 시도 (응답 503)
+        interceptor.afterTransmission(ctx, attrs);
+        Thread.sleep(200); // 재시도 backoff
+        interceptor.beforeTransmission(ctx, attrs);
+        interceptor.afterTransmission(ctx, attrs);
+        interceptor.afterExecution(ctx, attrs);
+
+        assertThat(registry.get("board.s3.calls").timer().max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(200);
+        assertThat(registry.get("board.s3.first-byte").timer().max(TimeUnit.MILLISECONDS)).isLessThan(200);
+    }
+
+    private static InterceptorContext getObjectContext() {
+        return InterceptorContext.builder()
+                .request(GetObjectRequest.builder().bucket("b").key("k").build())
+                .httpRequest(SdkHttpRequest.builder()
+                        .method(SdkHttpMethod.GET)
+                        .uri(URI.create("https://b.s3.amazonaws.com/k"))
+                        .build())
+                .httpResponse(SdkHttpResponse.builder()
+                        .statusCode(206)
+                        .putHeader("Content-Length", "1024")
+                        .build())
+                .response(GetObjectResponse.builder().build())
+                .build();
+    }
+}
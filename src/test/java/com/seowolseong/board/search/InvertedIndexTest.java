@@ -0,0 +1,123 @@
+package com.seowolseong.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void koreanSubstringMatchesWithoutMorphology() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "공지사항", "서버 점검 안내입니다.");
+        index.put(2, "질문", "게시판 검색이 안 돼요");
+        index.put(3, "잡담", "오늘 점심 메뉴");
+
+        assertThat(ids(index.search("점검", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("검색이", 0, 10))).containsExactly(2L);
+        assertThat(ids(index.search("공지 안내", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("점검 메뉴", 0, 10))).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "봄", "꽃");
+        index.put(2, "여름", "바다");
+
+        assertThat(ids(index.search("꽃", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("름", 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void normalizesCaseAndWidth() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "Spring Boot", "ＡＰＩ 문서");
+
+        assertThat(ids(index.search("spring", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("api", 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void titleMatchRanksFirstAndTiesPreferNewest() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "잡담", "업로드 문의");
+        index.put(2, "업로드 문의", "잡담");
+        index.put(3, "잡담", "업로드 문의");
+
+        assertThat(ids(index.search("업로드", 0, 10))).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void updateAndRemoveReplaceOldTerms() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "사과", "빨간 사과");
+        index.put(1, "바나나", "노란 바나나");
+
+        assertThat(ids(index.search("사과", 0, 10))).isEmpty();
+        assertThat(ids(index.search("바나나", 0, 10))).containsExactly(1L);
+
+        index.remove(List.of(1L));
+        assertThat(ids(index.search("바나나", 0, 10))).isEmpty();
+        assertThat(index.contains(1)).isFalse();
+    }
+
+    @Test
+    void paginatesWithTotal() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, String.format("글 %02d", id), "공통 본문");
+        }
+
+        InvertedIndex.Result first = index.search("공통", 0, 10);
+        InvertedIndex.Result last = index.search("공통", 20, 10);
+
+        assertThat(first.total()).isEqualTo(25);
+        assertThat(ids(first)).hasSize(10).startsWith(25L);
+        assertThat(ids(last)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(index.search("공통", 30, 10).hits()).isEmpty();
+    }
+
+    @Test
+    void compactsAfterManyUpdates() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 2000; id++) {
+            index.put(id, "처음 " + id, "이전 내용");
+        }
+        for (long id = 1; id <= 2000; id++) {
+            index.put(id, "수정 " + id, "새로운 내용");
+        }
+
+        InvertedIndex.Stats stats = index.stats();
+        assertThat(stats.docs()).isEqualTo(2000);
+        assertThat(stats.deadDocs()).isLessThan(1024);
+
+        assertThat(index.search("이전", 0, 10).total()).isZero();
+        assertThat(index.search("새로운", 0, 10).total()).isEqualTo(2000);
+        assertThat(ids(index.search("수정 1999", 0, 10))).startsWith(1999L);
+    }
+
+    @Test
+    void rankingSurvivesUpdatesBeforeCompaction() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "업로드 문의", "잡담");
+        index.put(2, "잡담", "업로드 문의");
+        index.put(3, "잡담", "업로드 문의");
+        // 삭제 doc이 정리 기준(1024) 미만으로 쌓여 포스팅 길이가 살아 있는 문서 수보다 커진 상태
+        for (int i = 0; i < 500; i++) {
+            index.put(2, "잡담", "업로드 문의");
+        }
+        assertThat(index.stats().deadDocs()).isEqualTo(500);
+
+        InvertedIndex.Result result = index.search("업로드", 0, 10);
+
+        assertThat(ids(result)).containsExactly(1L, 3L, 2L);
+        assertThat(result.hits()).allSatisfy(h -> assertThat(h.score()).isPositive());
+    }
+
+    private static List<Long> ids(InvertedIndex.Result result) {
+        return result.hits().stream().map(InvertedIndex.Hit::postId).toList();
+    }
+}
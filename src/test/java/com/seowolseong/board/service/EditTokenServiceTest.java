@@ -0,0 +1,56 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.domain.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EditTokenServiceTest {
+
+    private final EditTokenService tokens = new EditTokenService("test-secret", Duration.ofMinutes(10), null, null);
+
+    @Test
+    void acceptsTokenForSamePostAndHash() {
+        Post post = post(1L, "$2a$10$hash");
+
+        String token = tokens.issue(post).token();
+
+        assertThat(tokens.verify(token, post)).isTrue();
+    }
+
+    @Test
+    void rejectsOtherPostChangedHashAndTampering() {
+        Post post = post(1L, "$2a$10$hash");
+        String token = tokens.issue(post).token();
+
+        assertThat(tokens.verify(token, post(2L, "$2a$10$hash"))).isFalse();
+        assertThat(tokens.verify(token, post(1L, "$2a$10$other"))).isFalse();
+        assertThat(tokens.verify(tamper(token), post)).isFalse();
+        assertThat(tokens.verify("garbage", post)).isFalse();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        EditTokenService expired = new EditTokenService("test-secret", Duration.ofSeconds(-1), null, null);
+        Post post = post(1L, "$2a$10$hash");
+
+        assertThat(expired.verify(expired.issue(post).token(), post)).isFalse();
+    }
+
+    private static Post post(Long id, String hash) {
+        Post p = new Post();
+        ReflectionTestUtils.setField(p, "id", id);
+        p.setPasswordHash(hash);
+        return p;
+    }
+
+    // 서명 첫 글자 변경
+    private static String tamper(String token) {
+        int i = token.indexOf('.') + 1;
+        char c = (token.charAt(i) == 'A') ? 'B' : 'A';
+        return token.substring(0, i) + c + token.substring(i + 1);
+    }
+}
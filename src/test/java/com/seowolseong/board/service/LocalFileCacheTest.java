@@ -0,0 +1,80 @@
+package com.seowolseong.board.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalFileCacheTest {
+
+    private static final int ENTRY_BYTES = 20;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void leasedFileSurvivesEvictionUntilReleased() throws Exception {
+        LocalFileCache cache = newCache();
+        store(cache, 1L);
+
+        Optional<LocalFileCache.Lease> lease = cache.lookup(1L);
+        assertThat(lease).isPresent();
+        Path path = lease.get().path();
+
+        // 용량(100바이트) 초과 → 가장 오래된 1번이 밀려남
+        for (long id = 2; id <= 6; id++) {
+            store(cache, id);
+        }
+        assertThat(cache.lookup(1L)).isEmpty();
+        assertThat(Files.size(path)).isEqualTo(ENTRY_BYTES);
+
+        lease.get().close();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void unleasedFileIsDeletedOnEviction() throws Exception {
+        LocalFileCache cache = newCache();
+        store(cache, 1L);
+        Path path = dir.resolve("file-cache").resolve("1.bin");
+        assertThat(path).exists();
+
+        cache.evict(1L);
+
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void releasingTwiceIsIgnored() throws Exception {
+        LocalFileCache cache = newCache();
+        store(cache, 1L);
+
+        LocalFileCache.Lease first = cache.lookup(1L).orElseThrow();
+        LocalFileCache.Lease second = cache.lookup(1L).orElseThrow();
+        cache.evict(1L);
+
+        first.close();
+        first.close();
+        assertThat(second.path()).exists();
+
+        second.close();
+        assertThat(second.path()).doesNotExist();
+    }
+
+    private LocalFileCache newCache() {
+        LocalFileCache cache = new LocalFileCache(dir.toString(), true, 5 * ENTRY_BYTES);
+        cache.init();
+        return cache;
+    }
+
+    private static void store(LocalFileCache cache, long fileId) {
+        LocalFileCache.Writer w = cache.openWriter(fileId, (long) ENTRY_BYTES);
+        assertThat(w).isNotNull();
+        w.write(new byte[ENTRY_BYTES], 0, ENTRY_BYTES);
+        w.commit();
+    }
+}
@@ -0,0 +1,90 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.error.ApiException;
+import com.seowolseong.board.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // release 전까지 검증이 끝나지 않는 인코더
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence raw) {
+            return "h:" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return encoded.equals("h:" + raw);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encoded) {
+            return encoded.startsWith("old:");
+        }
+    };
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PasswordHasher hasher = new PasswordHasher(slowEncoder, 1, 1, Duration.ofSeconds(5), registry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    void rejectsWithServerBusyWhenQueueIsFull() throws Exception {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("a", "h:a"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hasher.matches("b", "h:b"));
+
+        // 실행 1 + 대기 1 이 찰 때까지 대기
+        while (hasher.stats().active() + hasher.stats().queued() < 2) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> hasher.matches("c", "h:c"))
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getCode())
+                .isEqualTo(ErrorCode.SERVER_BUSY);
+
+        release.countDown();
+        assertThat(running.get()).isTrue();
+        assertThat(queued.get()).isTrue();
+        assertThat(hasher.stats().rejected()).isEqualTo(1);
+        assertThat(hasher.stats().completed()).isEqualTo(2);
+    }
+
+    @Test
+    void rehashIsTimedAsEncode() {
+        String upgraded = hasher.rehashIfNeeded("a", "old:a", h -> true);
+
+        assertThat(upgraded).isEqualTo("h:a");
+        assertThat(registry.get("board.password.hasher").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(hasher.rehashIfNeeded("a", "h:a", h -> true)).isEqualTo("h:a");
+        assertThat(registry.get("board.password.hasher").tag("op", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void missingHashNeverMatches() {
+        assertThat(hasher.matches("a", null)).isFalse();
+        assertThat(hasher.matches("a", " ")).isFalse();
+    }
+}
@@ -0,0 +1,211 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.BoardApplication;
+import com.seowolseong.board.domain.FileStatus;
+import com.seowolseong.board.domain.Post;
+import com.seowolseong.board.domain.PostFile;
+import com.seowolseong.board.domain.StorageDeleteOutbox;
+import com.seowolseong.board.load.LoadTestInfra;
+import com.seowolseong.board.load.LoadTestS3Config;
+import com.seowolseong.board.repository.PostFileRepository;
+import com.seowolseong.board.repository.PostRepository;
+import com.seowolseong.board.repository.StorageDeleteOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 일괄 삭제 / 복구 (첨부파일 + S3 삭제 예약 연쇄)
+ *
+ * - 내장 PostgreSQL에서 실제 쿼리(deletedAt 일치, FOR UPDATE)를 검증한다.
+ * - 처리기(app.storage-delete)는 끄고 점유는 테스트에서 직접 기록한다.
+ */
+@ActiveProfiles("load")
+@Import(LoadTestS3Config.class)
+@SpringBootTest(classes = BoardApplication.class, properties = "app.storage-delete.enabled=false")
+class PostBulkDeleteTest {
+
+    @DynamicPropertySource
+    static void infra(DynamicPropertyRegistry registry) {
+        LoadTestInfra.start();
+        LoadTestInfra.register(registry);
+    }
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFileRepository postFileRepository;
+
+    @Autowired
+    private StorageDeleteOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    void restoreBringsBackFilesDeletedWithThePost() {
+        Long postId = post();
+        PostFile a = file(postId, FileStatus.READY);
+        PostFile b = file(postId, FileStatus.READY);
+
+        assertThat(postService.setDeletedBulk(List.of(postId), true)).isEqualTo(1);
+
+        OffsetDateTime deletedAt = postRepository.findById(postId).orElseThrow().getDeletedAt();
+        assertThat(reload(a).getDeletedAt().toInstant()).isEqualTo(deletedAt.toInstant());
+        assertThat(reload(b).getDeletedAt().toInstant()).isEqualTo(deletedAt.toInstant());
+        assertThat(outbox(postId)).hasSize(2);
+
+        assertThat(postService.setDeletedBulk(List.of(postId), false)).isEqualTo(1);
+
+        assertThat(reload(a).getDeletedAt()).isNull();
+        assertThat(reload(b).getDeletedAt()).isNull();
+        assertThat(reload(a).getStatus()).isEqualTo(FileStatus.READY);
+        assertThat(outbox(postId)).isEmpty();
+    }
+
+    @Test
+    void individuallyDeletedFileStaysDeleted() {
+        Long postId = post();
+        PostFile kept = file(postId, FileStatus.READY);
+        PostFile removed = file(postId, FileStatus.DELETED);
+        OffsetDateTime removedAt = reload(removed).getDeletedAt();
+
+        postService.setDeletedBulk(List.of(postId), true);
+        postService.setDeletedBulk(List.of(postId), false);
+
+        assertThat(reload(kept).getDeletedAt()).isNull();
+        assertThat(reload(removed).getStatus()).isEqualTo(FileStatus.DELETED);
+        assertThat(reload(removed).getDeletedAt().toInstant()).isEqualTo(removedAt.toInstant());
+    }
+
+    @Test
+    void claimedOutboxRowBlocksFileRestore() {
+        Long postId = post();
+        PostFile claimed = file(postId, FileStatus.READY);
+        PostFile free = file(postId, FileStatus.READY);
+
+        postService.setDeletedBulk(List.of(postId), true);
+        tx().executeWithoutResult(s -> outboxRepository.findAll().stream()
+                .filter(o -> o.getFileId().equals(claimed.getId()))
+                .forEach(o -> o.lease(OffsetDateTime.now().plusMinutes(5))));
+
+        assertThat(postService.setDeletedBulk(List.of(postId), false)).isEqualTo(1);
+
+        // 점유된 파일은 S3 삭제가 진행 중이므로 복구하지 않고 예약도 남긴다.
+        assertThat(reload(claimed).getDeletedAt()).isNotNull();
+        assertThat(reload(free).getDeletedAt()).isNull();
+        assertThat(outbox(postId)).extracting(StorageDeleteOutbox::getFileId).containsExactly(claimed.getId());
+    }
+
+    @Test
+    void restoreWaitsForInFlightClaim() throws Exception {
+        Long postId = post();
+        PostFile f = file(postId, FileStatus.READY);
+        postService.setDeletedBulk(List.of(postId), true);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 처리기 점유와 같은 순서: 행 잠금 → lease 기록 → 커밋
+        CompletableFuture<Void> claim = CompletableFuture.runAsync(() -> tx().executeWithoutResult(s -> {
+            outboxRepository.lockByPostIdIn(List.of(postId));
+            outbox(postId).forEach(o -> {
+                o.lease(OffsetDateTime.now().plusMinutes(5));
+                outboxRepository.save(o);
+            });
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Integer> restore = CompletableFuture.supplyAsync(
+                () -> postService.setDeletedBulk(List.of(postId), false));
+        Thread.sleep(300);
+        assertThat(restore).isNotDone();
+
+        release.countDown();
+        claim.get(10, TimeUnit.SECONDS);
+        assertThat(restore.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+
+        assertThat(reload(f).getDeletedAt()).isNotNull();
+        assertThat(outbox(postId)).hasSize(1);
+    }
+
+    @Test
+    void repeatedBulkDeleteKeepsOriginalStamp() {
+        Long postId = post();
+        PostFile f = file(postId, FileStatus.READY);
+
+        assertThat(postService.setDeletedBulk(List.of(postId), true)).isEqualTo(1);
+        OffsetDateTime first = reload(f).getDeletedAt();
+
+        assertThat(postService.setDeletedBulk(List.of(postId), true)).isZero();
+
+        assertThat(reload(f).getDeletedAt().toInstant()).isEqualTo(first.toInstant());
+        assertThat(postRepository.findById(postId).orElseThrow().getDeletedAt().toInstant())
+                .isEqualTo(first.toInstant());
+        assertThat(outbox(postId)).hasSize(1);
+
+        // 첫 삭제 시각 기준으로 그대로 복구된다.
+        postService.setDeletedBulk(List.of(postId), false);
+        assertThat(reload(f).getDeletedAt()).isNull();
+    }
+
+    private Long post() {
+        Post p = new Post();
+        p.setTitle("일괄 삭제");
+        p.setContent("본문");
+        p.setPasswordHash("{noop}x");
+        return postRepository.save(p).getId();
+    }
+
+    private PostFile file(Long postId, FileStatus status) {
+        PostFile f = new PostFile();
+        f.setPostId(postId);
+        f.setOriginalName("a.txt");
+        f.setStoredKey("posts/" + postId + "/" + System.nanoTime());
+        f.setContentType("text/plain");
+        f.setSizeBytes(1L);
+        f.setStatus(FileStatus.READY);
+        if (status == FileStatus.DELETED) {
+            f.delete();
+        }
+        return postFileRepository.save(f);
+    }
+
+    private PostFile reload(PostFile f) {
+        return postFileRepository.findById(f.getId()).orElseThrow();
+    }
+
+    private List<StorageDeleteOutbox> outbox(Long postId) {
+        return outboxRepository.findAll().stream()
+                .filter(o -> o.getPostId().equals(postId))
+                .toList();
+    }
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(txManager);
+    }
+}
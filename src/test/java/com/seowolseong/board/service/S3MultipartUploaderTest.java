@@ -0,0 +1,63 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.support.InMemoryS3AsyncClient;
+import com.seowolseong.board.support.InMemoryS3Client;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3MultipartUploaderTest {
+
+    private static final int PART = S3MultipartUploader.MIN_PART_SIZE;
+
+    private final InMemoryS3Client s3 = new InMemoryS3Client();
+    private final S3MultipartUploader uploader =
+            new S3MultipartUploader(new InMemoryS3AsyncClient(s3), "bucket", PART, 2);
+
+    @Test
+    void uploadsAllPartsInOrder() throws Exception {
+        byte[] data = randomBytes(PART * 2 + 1234);
+
+        uploader.upload("posts/1/a.pdf", "application/pdf", new ByteArrayInputStream(data));
+
+        assertThat(s3.object("posts/1/a.pdf")).isEqualTo(data);
+        assertThat(s3.contentType("posts/1/a.pdf")).isEqualTo("application/pdf");
+        assertThat(s3.partCalls()).isEqualTo(3);
+        assertThat(s3.openUploads()).isZero();
+    }
+
+    @Test
+    void exactMultipleOfPartSizeDoesNotSendEmptyPart() throws Exception {
+        byte[] data = randomBytes(PART * 2);
+
+        uploader.upload("posts/1/b.pdf", "application/pdf", new ByteArrayInputStream(data));
+
+        assertThat(s3.object("posts/1/b.pdf")).isEqualTo(data);
+        assertThat(s3.partCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void abortsWhenPartFails() {
+        s3.failOnPart(2);
+        byte[] data = randomBytes(PART * 3);
+
+        assertThatThrownBy(() ->
+                uploader.upload("posts/1/c.pdf", "application/pdf", new ByteArrayInputStream(data)))
+                .isInstanceOf(S3Exception.class);
+
+        assertThat(s3.object("posts/1/c.pdf")).isNull();
+        assertThat(s3.abortedUploadIds()).hasSize(1);
+        assertThat(s3.openUploads()).isZero();
+    }
+
+    private static byte[] randomBytes(int n) {
+        byte[] b = new byte[n];
+        new Random(42).nextBytes(b);
+        return b;
+    }
+}
@@ -0,0 +1,88 @@
+package com.seowolseong.board.service;
+
+import com.seowolseong.board.domain.StorageDeleteOutbox;
+import com.seowolseong.board.support.InMemoryS3Client;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageDeleteDispatcherTest {
+
+    private final InMemoryS3Client s3 = new InMemoryS3Client();
+    private final RecordingOutbox outbox = new RecordingOutbox();
+    private final StorageDeleteDispatcher dispatcher = new StorageDeleteDispatcher(outbox, s3);
+
+    @Test
+    void failedKeyIsRetriedForEveryRowAndOthersComplete() {
+        put("a");
+        put("b");
+        put("c");
+        s3.failDeleteFor("b");
+
+        // 같은 키(b)가 두 번 예약된 경우
+        dispatcher.deleteBatch(List.of(row(1, "a"), row(2, "b"), row(3, "b"), row(4, "c")));
+
+        assertThat(outbox.completed).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(outbox.retried).containsOnlyKeys(2L, 3L);
+        assertThat(outbox.retried.get(2L)).startsWith("AccessDenied");
+        assertThat(s3.object("a")).isNull();
+        assertThat(s3.object("b")).isNotNull();
+        assertThat(s3.object("c")).isNull();
+    }
+
+    @Test
+    void failedCallReschedulesWholeBatch() {
+        put("a");
+        put("b");
+        s3.failDeleteCall(true);
+
+        dispatcher.deleteBatch(List.of(row(1, "a"), row(2, "b")));
+
+        assertThat(outbox.completed).isEmpty();
+        assertThat(outbox.retried).containsOnlyKeys(1L, 2L);
+        assertThat(s3.object("a")).isNotNull();
+    }
+
+    private void put(String key) {
+        s3.putObject(PutObjectRequest.builder().bucket("bucket").key(key).build(), RequestBody.fromBytes(new byte[] {1}));
+    }
+
+    private static StorageDeleteOutbox row(long id, String key) {
+        StorageDeleteOutbox o = new StorageDeleteOutbox(null, null, key, OffsetDateTime.now());
+        ReflectionTestUtils.setField(o, "id", id);
+        return o;
+    }
+
+    /**
+     * 완료 / 재시도 결과만 기록하는 outbox
+     */
+    private static class RecordingOutbox extends StorageDeleteOutboxService {
+
+        final List<Long> completed = new ArrayList<>();
+        final Map<Long, String> retried = new HashMap<>();
+
+        RecordingOutbox() {
+            super(null);
+        }
+
+        @Override
+        public void complete(Collection<Long> ids) {
+            completed.addAll(ids);
+        }
+
+        @Override
+        public void retry(Map<Long, String> failures) {
+            retried.putAll(failures);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.seowolseong.board.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StorageDeleteOutboxServiceTest {
+
+    private final StorageDeleteOutboxService service = newService(Duration.ofSeconds(10), Duration.ofMinutes(30));
+
+    @Test
+    void backoffDoublesPerAttempt() {
+        assertThat(service.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(service.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(service.backoff(3)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(service.backoff(8)).isEqualTo(Duration.ofSeconds(1280));
+    }
+
+    @Test
+    void backoffCapsAtMax() {
+        assertThat(service.backoff(9)).isEqualTo(Duration.ofMinutes(30));
+        assertThat(service.backoff(64)).isEqualTo(Duration.ofMinutes(30));
+        assertThat(service.backoff(Integer.MAX_VALUE)).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    void firstAttemptNeverGoesBelowBase() {
+        assertThat(service.backoff(0)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    private static StorageDeleteOutboxService newService(Duration base, Duration max) {
+        StorageDeleteOutboxService s = new StorageDeleteOutboxService(null);
+        ReflectionTestUtils.setField(s, "backoffBase", base);
+        ReflectionTestUtils.setField(s, "backoffMax", max);
+        return s;
+    }
+}
@@ -0,0 +1,36 @@
+package com.seowolseong.board.service.model;
+
+import com.seowolseong.board.error.ApiException;
+import com.seowolseong.board.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void roundTrips() {
+        PostCursor c = new PostCursor(OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000, ZoneOffset.UTC), 42L);
+
+        assertThat(PostCursor.decode(c.encode())).isEqualTo(c);
+    }
+
+    @Test
+    void outOfRangeMicrosIsInvalidInput() {
+        for (String raw : new String[] {Long.MAX_VALUE + ":1", Long.MIN_VALUE + ":1", "abc:1", "1"}) {
+            String cursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+
+            assertThatThrownBy(() -> PostCursor.decode(cursor))
+                    .isInstanceOf(ApiException.class)
+                    .extracting(e -> ((ApiException) e).getCode())
+                    .isEqualTo(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.seowolseong.board.support;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 테스트용 S3 비동기 대체 구현
+ *
+ * - 저장/실패 주입은 InMemoryS3Client에 위임한다.
+ * - putObject / 멀티파트 업로드 / getObject(Range) / headObject / deleteObject / headBucket 을 지원한다.
+ */
+public class InMemoryS3AsyncClient implements S3AsyncClient {
+
+    private final InMemoryS3Client delegate;
+
+    public InMemoryS3AsyncClient(InMemoryS3Client delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest req, AsyncRequestBody body) {
+        return read(body).thenApply(bytes -> delegate.putObject(req, RequestBody.fromBytes(bytes)));
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest req) {
+        return CompletableFuture.supplyAsync(() -> delegate.createMultipartUpload(req));
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest req, AsyncRequestBody body) {
+        return read(body).thenApplyAsync(bytes -> delegate.uploadPart(req, RequestBody.fromBytes(bytes)));
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest req) {
+        return CompletableFuture.supplyAsync(() -> delegate.completeMultipartUpload(req));
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest req) {
+        return CompletableFuture.supplyAsync(() -> delegate.abortMultipartUpload(req));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getObject(
+            GetObjectRequest req,
+            AsyncResponseTransformer<GetObjectResponse, T> transformer
+    ) {
+        CompletableFuture<T> result = transformer.prepare();
+        try {
+            InMemoryS3Client.Slice s = delegate.slice(req);
+            transformer.onResponse(s.response());
+            transformer.onStream(AsyncRequestBody.fromBytes(s.bytes()));
+        } catch (RuntimeException e) {
+            transformer.exceptionOccurred(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest req) {
+        return CompletableFuture.supplyAsync(() -> delegate.headObject(req));
+    }
+
+    @Override
+    public CompletableFuture<HeadBucketResponse> headBucket(HeadBucketRequest req) {
+        return CompletableFuture.completedFuture(delegate.headBucket(req));
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest req) {
+        return CompletableFuture.supplyAsync(() -> delegate.deleteObject(req));
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * 요청 본문 전체 읽기
+     */
+    private static CompletableFuture<byte[]> read(AsyncRequestBody body) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buf) {
+                byte[] chunk = new byte[buf.remaining()];
+                buf.get(chunk);
+                out.writeBytes(chunk);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(out.toByteArray());
+            }
+        });
+        return result;
+    }
+}
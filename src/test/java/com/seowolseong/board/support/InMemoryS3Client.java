@@ -0,0 +1,255 @@
+package com.seowolseong.board.support;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3 대체 구현 (메모리 저장)
+ *
+ * - putObject / 멀티파트 업로드 / getObject(Range) / headObject / deleteObject(s) / headBucket 을 지원한다.
+ * - failOnPart 로 특정 파트 업로드 실패를 흉내낼 수 있다.
+ * - failDeleteFor / failDeleteCall 로 DeleteObjects 키별 실패 / 호출 실패를 흉내낼 수 있다.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Map<String, String> uploadKeys = new ConcurrentHashMap<>();
+    private final Set<String> aborted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger partCalls = new AtomicInteger();
+
+    private final Set<String> failDeleteKeys = ConcurrentHashMap.newKeySet();
+    private volatile int failOnPart = -1;
+    private volatile boolean failDeleteCall;
+
+    public void failOnPart(int partNumber) {
+        this.failOnPart = partNumber;
+    }
+
+    public void failDeleteFor(String key) {
+        failDeleteKeys.add(key);
+    }
+
+    public void failDeleteCall(boolean fail) {
+        this.failDeleteCall = fail;
+    }
+
+    public byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    public String contentType(String key) {
+        return contentTypes.get(key);
+    }
+
+    public Set<String> abortedUploadIds() {
+        return aborted;
+    }
+
+    public int partCalls() {
+        return partCalls.get();
+    }
+
+    public int openUploads() {
+        return uploads.size();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest req, RequestBody body) {
+        objects.put(req.key(), read(body));
+        if (req.contentType() != null) {
+            contentTypes.put(req.key(), req.contentType());
+        }
+        return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest req) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+        uploadKeys.put(uploadId, req.key());
+        if (req.contentType() != null) {
+            contentTypes.put(req.key(), req.contentType());
+        }
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(req.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest req, RequestBody body) {
+        partCalls.incrementAndGet();
+        if (req.partNumber() == failOnPart) {
+            throw (S3Exception) S3Exception.builder()
+                    .statusCode(500)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("InternalError").build())
+                    .message("injected part failure")
+                    .build();
+        }
+        var parts = uploads.get(req.uploadId());
+        if (parts == null) {
+            throw NoSuchUploadException.builder().message("no such upload").build();
+        }
+        parts.put(req.partNumber(), read(body));
+        return UploadPartResponse.builder().eTag("etag-" + req.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest req) {
+        var parts = uploads.remove(req.uploadId());
+        if (parts == null) {
+            throw NoSuchUploadException.builder().message("no such upload").build();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (CompletedPart p : req.multipartUpload().parts()) {
+            out.writeBytes(parts.get(p.partNumber()));
+        }
+        objects.put(uploadKeys.remove(req.uploadId()), out.toByteArray());
+        return CompleteMultipartUploadResponse.builder().key(req.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest req) {
+        uploads.remove(req.uploadId());
+        uploadKeys.remove(req.uploadId());
+        aborted.add(req.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest req) {
+        byte[] data = objects.get(req.key());
+        if (data == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("no such key").build();
+        }
+        return HeadObjectResponse.builder()
+                .contentLength((long) data.length)
+                .contentType(contentTypes.get(req.key()))
+                .eTag(etag(data))
+                .build();
+    }
+
+    @Override
+    public <T> T getObject(GetObjectRequest req, ResponseTransformer<GetObjectResponse, T> transformer) {
+        Slice s = slice(req);
+        try {
+            return transformer.transform(s.response(),
+                    AbortableInputStream.create(new ByteArrayInputStream(s.bytes())));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest req) {
+        return getObject(req, ResponseTransformer.toInputStream());
+    }
+
+    /**
+     * 객체 조회 결과 (Range 적용)
+     */
+    public record Slice(GetObjectResponse response, byte[] bytes) {}
+
+    /**
+     * 객체 조회 (Range: "bytes=start-end" 만 지원)
+     */
+    public Slice slice(GetObjectRequest req) {
+        byte[] data = objects.get(req.key());
+        if (data == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("no such key").build();
+        }
+
+        byte[] body = data;
+        String contentRange = null;
+        String range = req.range();
+        if (range != null && range.startsWith("bytes=")) {
+            String[] se = range.substring("bytes=".length()).split("-", 2);
+            int start = Integer.parseInt(se[0]);
+            int end = se[1].isEmpty() ? data.length - 1 : Math.min(Integer.parseInt(se[1]), data.length - 1);
+            body = Arrays.copyOfRange(data, start, end + 1);
+            contentRange = "bytes " + start + "-" + end + "/" + data.length;
+        }
+
+        GetObjectResponse res = GetObjectResponse.builder()
+                .contentLength((long) body.length)
+                .contentType(contentTypes.get(req.key()))
+                .contentRange(contentRange)
+                .eTag(etag(data))
+                .build();
+        return new Slice(res, body);
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest req) {
+        if (failDeleteCall) {
+            throw (S3Exception) S3Exception.builder()
+                    .statusCode(503)
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("SlowDown").build())
+                    .message("injected delete failure")
+                    .build();
+        }
+        List<S3Error> errors = new ArrayList<>();
+        for (ObjectIdentifier id : req.delete().objects()) {
+            if (failDeleteKeys.contains(id.key())) {
+                errors.add(S3Error.builder().key(id.key()).code("AccessDenied").message("injected").build());
+                continue;
+            }
+            objects.remove(id.key());
+            contentTypes.remove(id.key());
+        }
+        // quiet 모드 응답 (실패한 키만 포함)
+        return DeleteObjectsResponse.builder().errors(errors).build();
+    }
+
+    @Override
+    public HeadBucketResponse headBucket(HeadBucketRequest req) {
+        return HeadBucketResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest req) {
+        objects.remove(req.key());
+        contentTypes.remove(req.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static String etag(byte[] data) {
+        return "\"" + Integer.toHexString(Arrays.hashCode(data)) + "-" + data.length + "\"";
+    }
+
+    private static byte[] read(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}